@@ -0,0 +1,74 @@
+package com.ridemate.audit.controller;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ridemate.audit.dto.CreateAuditEntryDTO;
+import com.ridemate.audit.exception.InvalidAuditBatchException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class AuditBatchReader {
+
+    private final ObjectReader entryReader;
+    private final Validator validator;
+    private final int maxBatchSize;
+
+    public AuditBatchReader(ObjectMapper objectMapper, Validator validator,
+            @Value("${audit.batch.max-size:5000}") int maxBatchSize) {
+        this.entryReader = objectMapper.readerFor(CreateAuditEntryDTO.class);
+        this.validator = validator;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public List<CreateAuditEntryDTO> read(List<CreateAuditEntryDTO> entries) {
+        checkSize(entries.size());
+        validate(entries);
+        return entries;
+    }
+
+    public List<CreateAuditEntryDTO> readNdjson(InputStream body) throws IOException {
+        List<CreateAuditEntryDTO> entries = new ArrayList<>();
+        try (MappingIterator<CreateAuditEntryDTO> iterator = entryReader.readValues(body)) {
+            while (iterator.hasNextValue()) {
+                checkSize(entries.size() + 1);
+                entries.add(iterator.nextValue());
+            }
+        }
+        validate(entries);
+        return entries;
+    }
+
+    private void checkSize(int size) {
+        if (size > maxBatchSize) {
+            throw new InvalidAuditBatchException("Batch exceeds maximum size of " + maxBatchSize, Map.of());
+        }
+    }
+
+    private void validate(List<CreateAuditEntryDTO> entries) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            CreateAuditEntryDTO entry = entries.get(i);
+            if (entry == null) {
+                errors.put("[" + i + "]", "Entry is required");
+                continue;
+            }
+            for (ConstraintViolation<CreateAuditEntryDTO> violation : validator.validate(entry)) {
+                errors.put("[" + i + "]." + violation.getPropertyPath(), violation.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidAuditBatchException("Validation failed", errors);
+        }
+    }
+}
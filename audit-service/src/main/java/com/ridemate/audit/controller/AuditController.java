@@ -7,10 +7,14 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -19,10 +23,14 @@ public class AuditController {
 
     private static final Logger logger = LoggerFactory.getLogger(AuditController.class);
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final AuditService auditService;
+    private final AuditBatchReader auditBatchReader;
 
-    public AuditController(AuditService auditService) {
+    public AuditController(AuditService auditService, AuditBatchReader auditBatchReader) {
         this.auditService = auditService;
+        this.auditBatchReader = auditBatchReader;
     }
 
     @PostMapping
@@ -34,6 +42,22 @@ public class AuditController {
         return new ResponseEntity<>(created, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Integer>> createEntries(@RequestBody List<CreateAuditEntryDTO> dtos) {
+        logger.info("[POST /audit/batch] Request received to create {} audit entries", dtos.size());
+        int created = auditService.createEntries(auditBatchReader.read(dtos));
+        logger.info("[POST /audit/batch] Batch stored successfully - Entries: {}", created);
+        return new ResponseEntity<>(Map.of("created", created), HttpStatus.CREATED);
+    }
+
+    @PostMapping(value = "/batch", consumes = NDJSON)
+    public ResponseEntity<Map<String, Integer>> createEntriesFromStream(InputStream body) throws IOException {
+        logger.info("[POST /audit/batch] NDJSON stream received");
+        int created = auditService.createEntries(auditBatchReader.readNdjson(body));
+        logger.info("[POST /audit/batch] Stream stored successfully - Entries: {}", created);
+        return new ResponseEntity<>(Map.of("created", created), HttpStatus.CREATED);
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<AuditEntryViewDTO>> getEntriesForUser(@PathVariable UUID userId) {
         logger.info("[GET /audit/user/{}] Requesting audit entries", userId);
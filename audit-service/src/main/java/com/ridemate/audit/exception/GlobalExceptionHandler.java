@@ -46,6 +46,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidAuditBatchException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidAuditBatch(InvalidAuditBatchException ex) {
+        logger.warn("[ExceptionHandler] Audit batch rejected - {} - Errors: {}", ex.getMessage(), ex.getErrors());
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.BAD_REQUEST.value());
+        body.put("error", "Bad Request");
+        body.put("message", ex.getMessage());
+        body.put("errors", ex.getErrors());
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneralException(Exception ex) {
         logger.error("[ExceptionHandler] Unhandled exception caught - Message: {}", ex.getMessage(), ex);
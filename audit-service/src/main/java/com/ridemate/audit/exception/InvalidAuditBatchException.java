@@ -0,0 +1,17 @@
+package com.ridemate.audit.exception;
+
+import java.util.Map;
+
+public class InvalidAuditBatchException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public InvalidAuditBatchException(String message, Map<String, String> errors) {
+        super(message);
+        this.errors = errors;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ridemate.audit.repository;
+
+import com.ridemate.audit.dto.CreateAuditEntryDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class AuditEntryBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_entries "
+            + "(id, user_id, action_type, entity_type, entity_id, description, timestamp) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int jdbcBatchSize;
+
+    public AuditEntryBatchRepository(JdbcTemplate jdbcTemplate,
+            @Value("${audit.batch.jdbc-batch-size:500}") int jdbcBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    public int insertAll(List<CreateAuditEntryDTO> entries) {
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, jdbcBatchSize, (ps, dto) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, dto.getUserId());
+            ps.setString(3, dto.getActionType());
+            ps.setString(4, dto.getEntityType());
+            ps.setObject(5, dto.getEntityId());
+            if (dto.getDescription() == null) {
+                ps.setNull(6, Types.VARCHAR);
+            } else {
+                ps.setString(6, dto.getDescription());
+            }
+            ps.setTimestamp(7, timestamp);
+        });
+        return entries.size();
+    }
+}
@@ -0,0 +1,20 @@
+package com.ridemate.audit.service;
+
+import com.ridemate.audit.dto.AuditEntryViewDTO;
+import com.ridemate.audit.entity.AuditEntry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuditEntryMapper {
+
+    public AuditEntryViewDTO toViewDTO(AuditEntry entry) {
+        return new AuditEntryViewDTO(
+                entry.getId(),
+                entry.getUserId(),
+                entry.getActionType(),
+                entry.getEntityType(),
+                entry.getEntityId(),
+                entry.getDescription(),
+                entry.getTimestamp());
+    }
+}
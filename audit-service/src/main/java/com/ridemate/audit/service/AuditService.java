@@ -4,16 +4,22 @@ import com.ridemate.audit.dto.AuditEntryViewDTO;
 import com.ridemate.audit.dto.CreateAuditEntryDTO;
 import com.ridemate.audit.entity.AuditEntry;
 import com.ridemate.audit.exception.AuditEntryNotFoundException;
+import com.ridemate.audit.repository.AuditEntryBatchRepository;
 import com.ridemate.audit.repository.AuditEntryRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,9 +29,18 @@ public class AuditService {
     private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
 
     private final AuditEntryRepository auditEntryRepository;
+    private final AuditEntryBatchRepository auditEntryBatchRepository;
+    private final CacheManager cacheManager;
+    private final AuditEntryMapper auditEntryMapper;
 
-    public AuditService(AuditEntryRepository auditEntryRepository) {
+    public AuditService(AuditEntryRepository auditEntryRepository,
+            AuditEntryBatchRepository auditEntryBatchRepository,
+            CacheManager cacheManager,
+            AuditEntryMapper auditEntryMapper) {
         this.auditEntryRepository = auditEntryRepository;
+        this.auditEntryBatchRepository = auditEntryBatchRepository;
+        this.cacheManager = cacheManager;
+        this.auditEntryMapper = auditEntryMapper;
     }
 
     @Transactional
@@ -40,7 +55,28 @@ public class AuditService {
                 dto.getEntityId(),
                 dto.getDescription());
         AuditEntry savedEntry = auditEntryRepository.save(entry);
-        return mapToViewDTO(savedEntry);
+        return auditEntryMapper.toViewDTO(savedEntry);
+    }
+
+    @Transactional
+    public int createEntries(List<CreateAuditEntryDTO> entries) {
+        logger.info("[AuditService] Creating batch of {} audit entries", entries.size());
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        int created = auditEntryBatchRepository.insertAll(entries);
+        List<UUID> userIds = entries.stream()
+                .map(CreateAuditEntryDTO::getUserId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        afterCommit(() -> {
+            Cache cache = cacheManager.getCache("audit_entries");
+            if (cache != null) {
+                userIds.forEach(cache::evict);
+            }
+        });
+        return created;
     }
 
     @Transactional(readOnly = true)
@@ -49,7 +85,7 @@ public class AuditService {
         logger.info("[AuditService] Retrieving audit log entries for user ID: {}", userId);
         return auditEntryRepository.findByUserIdOrderByTimestampDesc(userId)
                 .stream()
-                .map(this::mapToViewDTO)
+                .map(auditEntryMapper::toViewDTO)
                 .collect(Collectors.toList());
     }
 
@@ -84,14 +120,16 @@ public class AuditService {
         return auditEntryRepository.count();
     }
 
-    private AuditEntryViewDTO mapToViewDTO(AuditEntry entry) {
-        return new AuditEntryViewDTO(
-                entry.getId(),
-                entry.getUserId(),
-                entry.getActionType(),
-                entry.getEntityType(),
-                entry.getEntityId(),
-                entry.getDescription(),
-                entry.getTimestamp());
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
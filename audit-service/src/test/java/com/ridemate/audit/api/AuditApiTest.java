@@ -61,4 +61,51 @@ class AuditApiTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].actionType").value("LOGIN"));
     }
+
+    @Test
+    void shouldStoreBatchAndEvictCachedUserEntries() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+
+        mockMvc.perform(get("/audit/user/" + userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        String json = """
+                [
+                    {"userId": "%s", "actionType": "CREATE", "entityType": "RIDE", "entityId": "%s"},
+                    {"userId": "%s", "actionType": "BOOK", "entityType": "RIDE", "entityId": "%s"},
+                    {"userId": "%s", "actionType": "CREATE", "entityType": "BOOKING", "entityId": "%s"}
+                ]
+                """.formatted(userId, UUID.randomUUID(), userId, UUID.randomUUID(), otherUserId, UUID.randomUUID());
+
+        mockMvc.perform(post("/audit/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(3));
+
+        mockMvc.perform(get("/audit/user/" + userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void shouldStoreNdjsonBatch() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String ndjson = """
+                {"userId": "%s", "actionType": "LOGIN", "entityType": "USER", "entityId": "%s"}
+                {"userId": "%s", "actionType": "UPDATE", "entityType": "USER", "entityId": "%s", "description": "Profile"}
+                """.formatted(userId, userId, userId, userId);
+
+        mockMvc.perform(post("/audit/batch")
+                .contentType("application/x-ndjson")
+                .content(ndjson))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2));
+
+        mockMvc.perform(get("/audit/user/" + userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
 }
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -16,12 +17,15 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuditController.class)
+@Import(AuditBatchReader.class)
 class AuditControllerIntegrationTest {
 
     @Autowired
@@ -73,4 +77,23 @@ class AuditControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].userId").value(userId.toString()));
     }
+
+    @Test
+    void createEntries_ShouldRejectInvalidEntries() throws Exception {
+        String json = """
+                [
+                    {"userId": "%s", "actionType": "TEST", "entityType": "TEST_ENTITY", "entityId": "%s"},
+                    {"userId": "%s", "entityType": "TEST_ENTITY"}
+                ]
+                """.formatted(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        mockMvc.perform(post("/audit/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['[1].actionType']").value("Action Type is required"))
+                .andExpect(jsonPath("$.errors['[1].entityId']").value("Entity ID is required"));
+
+        verify(auditService, never()).createEntries(any());
+    }
 }
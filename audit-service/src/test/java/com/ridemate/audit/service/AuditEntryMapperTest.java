@@ -0,0 +1,32 @@
+package com.ridemate.audit.service;
+
+import com.ridemate.audit.dto.AuditEntryViewDTO;
+import com.ridemate.audit.entity.AuditEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AuditEntryMapperTest {
+
+    private final AuditEntryMapper auditEntryMapper = new AuditEntryMapper();
+
+    @Test
+    void toViewDTO_ShouldCopyAllFields() {
+        AuditEntry entry = new AuditEntry(UUID.randomUUID(), "BOOK", "BOOKING", UUID.randomUUID(), "Booked a ride");
+        entry.setId(UUID.randomUUID());
+        entry.setTimestamp(LocalDateTime.now());
+
+        AuditEntryViewDTO dto = auditEntryMapper.toViewDTO(entry);
+
+        assertEquals(entry.getId(), dto.getId());
+        assertEquals(entry.getUserId(), dto.getUserId());
+        assertEquals(entry.getActionType(), dto.getActionType());
+        assertEquals(entry.getEntityType(), dto.getEntityType());
+        assertEquals(entry.getEntityId(), dto.getEntityId());
+        assertEquals(entry.getDescription(), dto.getDescription());
+        assertEquals(entry.getTimestamp(), dto.getTimestamp());
+    }
+}
@@ -4,12 +4,18 @@ import com.ridemate.audit.dto.AuditEntryViewDTO;
 import com.ridemate.audit.dto.CreateAuditEntryDTO;
 import com.ridemate.audit.entity.AuditEntry;
 import com.ridemate.audit.exception.AuditEntryNotFoundException;
+import com.ridemate.audit.repository.AuditEntryBatchRepository;
 import com.ridemate.audit.repository.AuditEntryRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -27,9 +33,63 @@ class AuditServiceTest {
     @Mock
     private AuditEntryRepository auditEntryRepository;
 
+    @Mock
+    private AuditEntryBatchRepository auditEntryBatchRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Spy
+    private AuditEntryMapper auditEntryMapper;
+
     @InjectMocks
     private AuditService auditService;
 
+    @Test
+    void createEntries_ShouldInsertBatchAndEvictEachUserOnce() {
+        UUID firstUser = UUID.randomUUID();
+        UUID secondUser = UUID.randomUUID();
+        List<CreateAuditEntryDTO> entries = List.of(
+                entry(firstUser), entry(secondUser), entry(firstUser), entry(firstUser));
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache("audit_entries")).thenReturn(cache);
+        when(auditEntryBatchRepository.insertAll(entries)).thenReturn(entries.size());
+
+        int created = auditService.createEntries(entries);
+
+        assertEquals(4, created);
+        verify(auditEntryBatchRepository, times(1)).insertAll(entries);
+        verify(cache, times(1)).evict(firstUser);
+        verify(cache, times(1)).evict(secondUser);
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void createEntries_ShouldEvictOnlyAfterCommit_WhenTransactionIsActive() {
+        UUID userId = UUID.randomUUID();
+        List<CreateAuditEntryDTO> entries = List.of(entry(userId));
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache("audit_entries")).thenReturn(cache);
+        when(auditEntryBatchRepository.insertAll(entries)).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            auditService.createEntries(entries);
+            verifyNoInteractions(cache);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(cache, times(1)).evict(userId);
+    }
+
+    @Test
+    void createEntries_ShouldSkipEmptyBatch() {
+        assertEquals(0, auditService.createEntries(List.of()));
+        verifyNoInteractions(auditEntryBatchRepository, cacheManager);
+    }
+
     @Test
     void createEntry_ShouldSaveAndReturnDto() {
         CreateAuditEntryDTO createDto = new CreateAuditEntryDTO();
@@ -114,4 +174,13 @@ class AuditServiceTest {
 
         verify(auditEntryRepository, times(1)).deleteOlderThan(any(LocalDateTime.class));
     }
+
+    private static CreateAuditEntryDTO entry(UUID userId) {
+        CreateAuditEntryDTO dto = new CreateAuditEntryDTO();
+        dto.setUserId(userId);
+        dto.setActionType("UPDATE");
+        dto.setEntityType("RIDE");
+        dto.setEntityId(UUID.randomUUID());
+        return dto;
+    }
 }
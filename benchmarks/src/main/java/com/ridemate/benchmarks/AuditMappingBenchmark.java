@@ -0,0 +1,52 @@
+package com.ridemate.benchmarks;
+
+import com.ridemate.audit.dto.AuditEntryViewDTO;
+import com.ridemate.audit.entity.AuditEntry;
+import com.ridemate.audit.service.AuditEntryMapper;
+import com.ridemate.benchmarks.data.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditMappingBenchmark {
+
+    @Param({"100", "10000"})
+    public int entryCount;
+
+    private AuditEntryMapper auditEntryMapper;
+    private List<AuditEntry> entries;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(3);
+        List<UUID> userIds = List.of(data.uuid(), data.uuid(), data.uuid());
+        entries = data.auditEntries(entryCount, userIds);
+        auditEntryMapper = new AuditEntryMapper();
+    }
+
+    @Benchmark
+    public List<AuditEntryViewDTO> toViewDTO() {
+        return entries.stream()
+                .map(auditEntryMapper::toViewDTO)
+                .collect(Collectors.toList());
+    }
+}
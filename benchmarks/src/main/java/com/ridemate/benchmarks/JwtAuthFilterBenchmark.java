@@ -0,0 +1,74 @@
+package com.ridemate.benchmarks;
+
+import com.ridemate.app.security.CustomUserDetails;
+import com.ridemate.app.security.JwtAuthFilter;
+import com.ridemate.app.security.JwtUtil;
+import com.ridemate.app.security.PrincipalCache;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    @Param({"0", "10000"})
+    public int cacheSize;
+
+    private JwtAuthFilter filter;
+    private String[] headers;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(cacheSize);
+        filter = new JwtAuthFilter(jwtUtil, null, new PrincipalCache(10_000, 60_000, new SimpleMeterRegistry()), true);
+        headers = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            User user = new User(UUID.randomUUID(), "Rider " + i, "rider" + i + "@ridemate.test", "secret");
+            user.setRole(UserRole.USER);
+            headers[i] = "Bearer " + jwtUtil.generateToken(new CustomUserDetails(user));
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/rides");
+        request.addHeader("Authorization", headers[ThreadLocalRandom.current().nextInt(USERS)]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
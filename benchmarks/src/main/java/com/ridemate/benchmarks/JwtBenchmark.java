@@ -0,0 +1,84 @@
+package com.ridemate.benchmarks;
+
+import com.ridemate.app.security.JwtUtil;
+import com.ridemate.app.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "u6x7H3h4J9d2F6g5H8k9L0mN1pQ2rS3tU4vW5x6y7z8=";
+
+    private UserDetails user;
+    private String token;
+    private JwtUtil uncached;
+    private JwtUtil cached;
+
+    @Setup
+    public void setUp() {
+        user = new User("driver@ridemate.test", "secret", List.of(new SimpleGrantedAuthority("ROLE_DRIVER")));
+        uncached = new JwtUtil(0);
+        cached = new JwtUtil(10_000);
+        token = uncached.generateToken(user);
+    }
+
+    @Benchmark
+    public String generate() {
+        return uncached.generateToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken parse() {
+        return uncached.verify(token);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return uncached.isValid(token, user);
+    }
+
+    @Benchmark
+    public VerifiedToken parseCached() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    public boolean legacyParsePerClaim() {
+        String username = legacyClaims().getSubject();
+        return user.getUsername().equals(username)
+                && legacyClaims().getSubject().equals(username)
+                && legacyClaims().getExpiration().after(new Date());
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,137 @@
+package com.ridemate.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.ridemate.app.aspect.LoggingAspect;
+import com.ridemate.app.security.CustomUserDetails;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import com.ridemate.app.users.repository.UserRepository;
+import com.ridemate.app.users.service.UserService;
+import com.ridemate.benchmarks.data.SyntheticData;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+    @Param({"off", "sampled", "all"})
+    public String trace;
+
+    private CustomUserDetails currentUser;
+    private UserService direct;
+    private UserService legacy;
+    private UserService tracing;
+
+    @Setup
+    public void setUp() {
+        Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        DiscardingAppender appender = new DiscardingAppender();
+        appender.setContext(root.getLoggerContext());
+        appender.start();
+        root.addAppender(appender);
+        root.setLevel(Level.INFO);
+        ((Logger) LoggerFactory.getLogger(UserService.class)).setLevel(trace.equals("off") ? Level.INFO : Level.DEBUG);
+
+        User user = new SyntheticData(7).user(UserRole.DRIVER);
+        currentUser = new CustomUserDetails(user);
+        direct = userService(user);
+        legacy = proxy(new LegacyLoggingAspect(), userService(user));
+        tracing = proxy(new LoggingAspect(trace.equals("sampled") ? 0.01 : 1.0, "", 100, 3), userService(user));
+    }
+
+    @Benchmark
+    public User noAspect() {
+        return direct.getUser(currentUser);
+    }
+
+    @Benchmark
+    public User legacyInfoLogging() {
+        return legacy.getUser(currentUser);
+    }
+
+    @Benchmark
+    public User tracingAspect() {
+        return tracing.getUser(currentUser);
+    }
+
+    static UserService userService(User user) {
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(), new Class<?>[] {UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return user.getId().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        UserService userService = new UserService();
+        Field field = ReflectionUtils.findField(UserService.class, "userRepository");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, userService, userRepository);
+        return userService;
+    }
+
+    static UserService proxy(Object aspect, UserService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Aspect
+    public static class LegacyLoggingAspect {
+
+        private final org.slf4j.Logger logger = LoggerFactory.getLogger(this.getClass());
+
+        @Before("within(com.ridemate.app..*Service)")
+        public void logMethodEntry(JoinPoint joinPoint) {
+            String methodName = joinPoint.getSignature().getName();
+            String className = joinPoint.getTarget().getClass().getSimpleName();
+            logger.info("Entering method: {}.{} with arguments: {}", className, methodName, joinPoint.getArgs());
+        }
+
+        @AfterReturning(pointcut = "within(com.ridemate.app..*Service)", returning = "result")
+        public void logMethodExit(JoinPoint joinPoint, Object result) {
+            String methodName = joinPoint.getSignature().getName();
+            String className = joinPoint.getTarget().getClass().getSimpleName();
+            logger.info("Exiting method: {}.{} with result: {}", className, methodName, result);
+        }
+    }
+
+    private static class DiscardingAppender extends AppenderBase<ILoggingEvent> {
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            event.getFormattedMessage();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ridemate.benchmarks;
+
+import com.ridemate.app.aspect.MetricsAspect;
+import com.ridemate.app.monitoring.MethodMetrics;
+import com.ridemate.app.security.CustomUserDetails;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import com.ridemate.app.users.service.UserService;
+import com.ridemate.benchmarks.data.SyntheticData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsAspectBenchmark {
+
+    private CustomUserDetails currentUser;
+    private UserService direct;
+    private UserService timed;
+
+    @Setup
+    public void setUp() {
+        User user = new SyntheticData(7).user(UserRole.DRIVER);
+        currentUser = new CustomUserDetails(user);
+        direct = LoggingAspectBenchmark.userService(user);
+        timed = LoggingAspectBenchmark.proxy(new MetricsAspect(new MethodMetrics(new SimpleMeterRegistry(), true)),
+                LoggingAspectBenchmark.userService(user));
+    }
+
+    @Benchmark
+    public User noAspect() {
+        return direct.getUser(currentUser);
+    }
+
+    @Benchmark
+    public User timerWithHistogram() {
+        return timed.getUser(currentUser);
+    }
+}
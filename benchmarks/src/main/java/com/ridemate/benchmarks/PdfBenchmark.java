@@ -0,0 +1,91 @@
+package com.ridemate.benchmarks;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Paragraph;
+import com.ridemate.app.bookings.BookingStatus;
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.bookings.repository.BookingRepository;
+import com.ridemate.app.pdf.PdfService;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.benchmarks.data.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfBenchmark {
+
+    private PdfService pdfService;
+    private Booking booking;
+    private UUID bookingId;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(11);
+        booking = data.booking(data.ride(data.user(UserRole.DRIVER)), data.user(UserRole.USER),
+                BookingStatus.APPROVED);
+        bookingId = booking.getId();
+        BookingRepository bookingRepository = (BookingRepository) Proxy.newProxyInstance(
+                BookingRepository.class.getClassLoader(), new Class<?>[] {BookingRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return booking.getId().equals(args[0]) ? Optional.of(booking) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        pdfService = new PdfService();
+        Field field = ReflectionUtils.findField(PdfService.class, "bookingRepository");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, pdfService, bookingRepository);
+    }
+
+    @Benchmark
+    public ByteArrayInputStream createPdf() {
+        return pdfService.createPdf(bookingId);
+    }
+
+    @Benchmark
+    public int layoutPerDocument() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        Document document = new Document(new PdfDocument(new PdfWriter(out)));
+        document.add(new Paragraph("Booking Confirmation"));
+        document.add(new Paragraph("Booking ID: " + booking.getId()));
+        document.add(new Paragraph("Booking Date: " + booking.getCreatedAt()));
+        document.add(new Paragraph("Booking Status: " + booking.getStatus()));
+        document.add(new Paragraph("Booking Price: " + booking.getRide().getPrice()));
+        document.add(new Paragraph("Booking Driver: " + booking.getRide().getDriver().getUsername()));
+        document.add(new Paragraph("Thank you for choosing RideMate!"));
+        document.close();
+        return out.size();
+    }
+
+    @Benchmark
+    public int preloadedTemplate() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        pdfService.writePdf(booking, out);
+        return out.size();
+    }
+}
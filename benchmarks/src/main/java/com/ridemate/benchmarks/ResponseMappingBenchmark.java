@@ -0,0 +1,81 @@
+package com.ridemate.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ridemate.app.bookings.dto.BookingResponse;
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.rides.dto.RideResponse;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import com.ridemate.benchmarks.data.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"20", "1000"})
+    public int listSize;
+
+    private ObjectMapper objectMapper;
+    private List<Ride> rides;
+    private List<Booking> bookings;
+    private List<RideResponse> rideResponses;
+    private List<BookingResponse> bookingResponses;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(7);
+        List<User> drivers = data.users(Math.max(1, listSize / 10), UserRole.DRIVER);
+        List<User> passengers = data.users(Math.max(1, listSize / 5), UserRole.USER);
+        rides = data.rides(listSize, drivers);
+        bookings = data.bookings(rides, passengers, listSize);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        rideResponses = mapRides();
+        bookingResponses = mapBookings();
+    }
+
+    @Benchmark
+    public List<RideResponse> mapRides() {
+        return rides.stream().map(RideResponse::new).toList();
+    }
+
+    @Benchmark
+    public List<BookingResponse> mapBookings() {
+        return bookings.stream().map(BookingResponse::new).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeRides() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(rideResponses);
+    }
+
+    @Benchmark
+    public byte[] serializeBookings() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookingResponses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeRides() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapRides());
+    }
+}
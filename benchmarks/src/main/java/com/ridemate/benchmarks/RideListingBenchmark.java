@@ -0,0 +1,83 @@
+package com.ridemate.benchmarks;
+
+import com.ridemate.app.bookings.BookingStatus;
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.rides.search.RideSearchIndex;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import com.ridemate.benchmarks.data.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class RideListingBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rideCount;
+
+    private List<Ride> rides;
+    private RideSearchIndex index;
+    private UUID passengerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42);
+        List<User> drivers = data.users(Math.max(10, rideCount / 50), UserRole.DRIVER);
+        List<User> passengers = data.users(Math.max(10, rideCount / 20), UserRole.USER);
+        rides = data.rides(rideCount, drivers);
+        List<Booking> bookings = data.bookings(rides, passengers, rideCount / 2);
+        User passenger = passengers.get(0);
+        for (int i = 0; i < 20; i++) {
+            data.booking(rides.get(i * (rideCount / 20)), passenger, BookingStatus.APPROVED);
+        }
+        passengerId = passenger.getId();
+
+        index = new RideSearchIndex(null, null);
+        rides.forEach(index::put);
+        for (Ride ride : rides) {
+            for (Booking booking : ride.getBookings()) {
+                if (booking.getStatus().isActive()) {
+                    index.addPassenger(ride.getId(), booking.getPassenger().getId());
+                }
+            }
+        }
+        if (bookings.isEmpty() || index.size() != rideCount) {
+            throw new IllegalStateException("Synthetic catalogue was not loaded");
+        }
+    }
+
+    @Benchmark
+    public List<Ride> streamFilterOverEntities() {
+        return rides.stream()
+                .filter(ride -> ride.getBookings().stream()
+                        .noneMatch(booking -> booking.getPassenger().getId().equals(passengerId)
+                                && booking.getStatus().isActive()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Ride> searchIndexOpenRides() {
+        return index.findOpenRides(passengerId);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ridemate.benchmarks.data;
+
+import com.ridemate.app.bookings.BookingStatus;
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import com.ridemate.audit.entity.AuditEntry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+public class SyntheticData {
+
+    private static final String[] CITIES = {"Sofia", "Plovdiv", "Varna", "Burgas", "Ruse", "Stara Zagora", "Pleven",
+            "Sliven", "Dobrich", "Shumen", "Pernik", "Haskovo", "Yambol", "Pazardzhik", "Blagoevgrad", "Veliko Tarnovo"};
+    private static final String[] ACTIONS = {"CREATE", "UPDATE", "DELETE", "BOOK", "APPROVE", "REJECT", "CANCEL"};
+    private static final String[] ENTITY_TYPES = {"RIDE", "BOOKING", "USER"};
+
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    public SyntheticData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public User user(UserRole role) {
+        UUID id = uuid();
+        String name = role.name().toLowerCase() + "-" + id.toString().substring(0, 8);
+        User user = new User(id, name, name + "@ridemate.test", "$2a$10$abcdefghijklmnopqrstuv");
+        user.setRole(role);
+        user.setRating(3.0 + random.nextInt(21) / 10.0);
+        user.setCreatedAt(now.minusDays(random.nextInt(720)));
+        return user;
+    }
+
+    public List<User> users(int count, UserRole role) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(user(role));
+        }
+        return users;
+    }
+
+    public List<Ride> rides(int count, List<User> drivers) {
+        List<Ride> rides = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rides.add(ride(drivers.get(random.nextInt(drivers.size()))));
+        }
+        return rides;
+    }
+
+    public Ride ride(User driver) {
+        int origin = random.nextInt(CITIES.length);
+        int destination = (origin + 1 + random.nextInt(CITIES.length - 1)) % CITIES.length;
+        int seats = 1 + random.nextInt(4);
+        Ride ride = new Ride();
+        ride.setId(uuid());
+        ride.setDriver(driver);
+        ride.setOrigin(CITIES[origin]);
+        ride.setDestination(CITIES[destination]);
+        ride.setDateTime(now.plusMinutes(30 + random.nextInt(60 * 24 * 60)));
+        ride.setPrice(5 + random.nextInt(4_000) / 100.0);
+        ride.setSeatsAvailable(seats);
+        ride.setSeatsTaken(random.nextInt(seats + 1));
+        ride.setStatus(RideStatus.ACTIVE);
+        return ride;
+    }
+
+    public Booking booking(Ride ride, User passenger, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setId(uuid());
+        booking.setRide(ride);
+        booking.setPassenger(passenger);
+        booking.setStatus(status);
+        booking.setCreatedAt(now.minusHours(random.nextInt(24 * 30)));
+        ride.getBookings().add(booking);
+        return booking;
+    }
+
+    public List<Booking> bookings(List<Ride> rides, List<User> passengers, int count) {
+        BookingStatus[] statuses = BookingStatus.values();
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Ride ride = rides.get(random.nextInt(rides.size()));
+            User passenger = passengers.get(random.nextInt(passengers.size()));
+            bookings.add(booking(ride, passenger, statuses[random.nextInt(statuses.length)]));
+        }
+        return bookings;
+    }
+
+    public List<AuditEntry> auditEntries(int count, List<UUID> userIds) {
+        List<AuditEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String action = ACTIONS[random.nextInt(ACTIONS.length)];
+            String entityType = ENTITY_TYPES[random.nextInt(ENTITY_TYPES.length)];
+            AuditEntry entry = new AuditEntry(userIds.get(random.nextInt(userIds.size())), action, entityType, uuid(),
+                    entityType.charAt(0) + entityType.substring(1).toLowerCase() + " " + action.toLowerCase());
+            entry.setId(uuid());
+            entry.setTimestamp(now.minusSeconds(random.nextInt(60 * 60 * 24 * 90)));
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    public UUID uuid() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
@@ -0,0 +1,138 @@
+package com.ridemate.app.aspect;
+
+import jakarta.persistence.Entity;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+class ArgumentSummarizer {
+
+    private static final ClassValue<Optional<Method>> ENTITY_ID = new ClassValue<>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> type) {
+            if (!type.isAnnotationPresent(Entity.class)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(type.getMethod("getId"));
+            } catch (NoSuchMethodException e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    private final int maxLength;
+    private final int maxElements;
+
+    ArgumentSummarizer(int maxLength, int maxElements) {
+        this.maxLength = maxLength;
+        this.maxElements = maxElements;
+    }
+
+    String summarize(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "[]";
+        }
+        StringBuilder summary = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                summary.append(", ");
+            }
+            append(summary, args[i]);
+        }
+        return summary.append(']').toString();
+    }
+
+    String summarize(Object value) {
+        StringBuilder summary = new StringBuilder();
+        append(summary, value);
+        return summary.toString();
+    }
+
+    private void append(StringBuilder summary, Object value) {
+        if (value == null) {
+            summary.append("null");
+        } else if (value instanceof CharSequence text) {
+            appendText(summary, text);
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>
+                || value instanceof UUID || value instanceof Temporal || value instanceof Character) {
+            summary.append(value);
+        } else if (value instanceof HibernateProxy proxy) {
+            LazyInitializer initializer = proxy.getHibernateLazyInitializer();
+            summary.append(simpleName(initializer.getEntityName())).append('#').append(initializer.getIdentifier());
+        } else if (value instanceof Collection<?> collection) {
+            appendElements(summary, value.getClass().getSimpleName(), collection.size(), collection.iterator());
+        } else if (value instanceof Map<?, ?> map) {
+            summary.append(value.getClass().getSimpleName()).append("[size=").append(map.size()).append(']');
+        } else if (value instanceof Object[] array) {
+            appendElements(summary, value.getClass().getComponentType().getSimpleName() + "[]", array.length,
+                    Arrays.asList(array).iterator());
+        } else if (value.getClass().isArray()) {
+            summary.append(value.getClass().getComponentType().getSimpleName())
+                    .append("[length=").append(Array.getLength(value)).append(']');
+        } else if (value instanceof Optional<?> optional) {
+            summary.append("Optional[");
+            append(summary, optional.orElse(null));
+            summary.append(']');
+        } else if (value instanceof ResponseEntity<?> response) {
+            summary.append("ResponseEntity[").append(response.getStatusCode().value()).append(", ");
+            append(summary, response.getBody());
+            summary.append(']');
+        } else {
+            appendObject(summary, value);
+        }
+    }
+
+    private void appendElements(StringBuilder summary, String type, int size, Iterator<?> elements) {
+        summary.append(type).append("[size=").append(size);
+        if (size > 0 && maxElements > 0) {
+            summary.append(": ");
+            for (int i = 0; i < maxElements && elements.hasNext(); i++) {
+                if (i > 0) {
+                    summary.append(", ");
+                }
+                append(summary, elements.next());
+            }
+            if (size > maxElements) {
+                summary.append(", ...");
+            }
+        }
+        summary.append(']');
+    }
+
+    private void appendObject(StringBuilder summary, Object value) {
+        Optional<Method> id = ENTITY_ID.get(value.getClass());
+        if (id.isPresent()) {
+            summary.append(value.getClass().getSimpleName()).append('#');
+            try {
+                summary.append(id.get().invoke(value));
+            } catch (ReflectiveOperationException e) {
+                summary.append('?');
+            }
+        } else {
+            summary.append(value.getClass().getSimpleName());
+        }
+    }
+
+    private void appendText(StringBuilder summary, CharSequence text) {
+        if (text.length() <= maxLength) {
+            summary.append('"').append(text).append('"');
+        } else {
+            summary.append('"').append(text, 0, maxLength).append("...\"(").append(text.length()).append(')');
+        }
+    }
+
+    private static String simpleName(String entityName) {
+        return entityName.substring(entityName.lastIndexOf('.') + 1);
+    }
+}
@@ -1,43 +1,102 @@
 package com.ridemate.app.aspect;
 
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
-import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
 @Aspect
 @Component
 public class LoggingAspect {
 
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ArgumentSummarizer summarizer;
+    private final double defaultSampleRate;
+    private final Map<String, Double> sampleRates;
+    private final ClassValue<TraceTarget> targets = new ClassValue<>() {
+        @Override
+        protected TraceTarget computeValue(Class<?> type) {
+            return new TraceTarget(LoggerFactory.getLogger(type), type.getSimpleName(), sampleRate(type.getName()));
+        }
+    };
+
+    public LoggingAspect(@Value("${ridemate.logging.trace.sample-rate:1.0}") double defaultSampleRate,
+                         @Value("${ridemate.logging.trace.sample-rates:}") String sampleRates,
+                         @Value("${ridemate.logging.trace.max-length:100}") int maxLength,
+                         @Value("${ridemate.logging.trace.max-elements:3}") int maxElements) {
+        this.summarizer = new ArgumentSummarizer(maxLength, maxElements);
+        this.defaultSampleRate = defaultSampleRate;
+        this.sampleRates = parseSampleRates(sampleRates);
+    }
 
     @Pointcut("within(com.ridemate.app..*Service) || within(com.ridemate.app..*Controller)")
     public void serviceMethods() {}
 
-    @Before("serviceMethods()")
-    public void logMethodEntry(JoinPoint joinPoint) {
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        Object[] args = joinPoint.getArgs();
-        logger.info("Entering method: {}.{} with arguments: {}", className, methodName, args);
+    @Around("serviceMethods()")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        TraceTarget target = targets.get(joinPoint.getTarget().getClass());
+        Logger logger = target.logger();
+        boolean traced = logger.isDebugEnabled() && target.sampled();
+        long started = 0;
+        if (traced) {
+            logger.debug("Entering method: {}.{} with arguments: {}", target.name(),
+                    joinPoint.getSignature().getName(), summarizer.summarize(joinPoint.getArgs()));
+            started = System.nanoTime();
+        }
+        try {
+            Object result = joinPoint.proceed();
+            if (traced) {
+                logger.debug("Exiting method: {}.{} after {} us with result: {}", target.name(),
+                        joinPoint.getSignature().getName(), (System.nanoTime() - started) / 1_000,
+                        summarizer.summarize(result));
+            }
+            return result;
+        } catch (Throwable exception) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Exception in method: {}.{}. Exception: {}", target.name(),
+                        joinPoint.getSignature().getName(), exception.getMessage());
+            }
+            throw exception;
+        }
     }
 
-    @AfterReturning(pointcut = "serviceMethods()", returning = "result")
-    public void logMethodExit(JoinPoint joinPoint, Object result) {
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        logger.info("Exiting method: {}.{} with result: {}", className, methodName, result);
+    private double sampleRate(String className) {
+        String bestMatch = null;
+        for (String prefix : sampleRates.keySet()) {
+            if ((className.equals(prefix) || className.startsWith(prefix + "."))
+                    && (bestMatch == null || prefix.length() > bestMatch.length())) {
+                bestMatch = prefix;
+            }
+        }
+        return bestMatch == null ? defaultSampleRate : sampleRates.get(bestMatch);
     }
 
-    @AfterThrowing(pointcut = "serviceMethods()", throwing = "exception")
-    public void logException(JoinPoint joinPoint, Throwable exception) {
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        logger.error("Exception in method: {}.{}. Exception: {}", className, methodName, exception.getMessage());
+    private static Map<String, Double> parseSampleRates(String value) {
+        Map<String, Double> rates = new HashMap<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid trace sample rate: " + entry.trim());
+            }
+            rates.put(entry.substring(0, separator).trim(), Double.parseDouble(entry.substring(separator + 1).trim()));
+        }
+        return rates;
+    }
+
+    private record TraceTarget(Logger logger, String name, double sampleRate) {
+
+        boolean sampled() {
+            return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        }
     }
 }
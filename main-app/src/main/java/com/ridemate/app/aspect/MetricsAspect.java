@@ -0,0 +1,75 @@
+package com.ridemate.app.aspect;
+
+import com.ridemate.app.monitoring.MethodMetrics;
+import com.ridemate.app.monitoring.OperationEvent;
+import com.ridemate.app.monitoring.Recorded;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private final MethodMetrics methodMetrics;
+    private final ClassValue<Map<Method, TimedMethod>> timedMethods = new ClassValue<>() {
+        @Override
+        protected Map<Method, TimedMethod> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public MetricsAspect(MethodMetrics methodMetrics) {
+        this.methodMetrics = methodMetrics;
+    }
+
+    @Around("com.ridemate.app.aspect.LoggingAspect.serviceMethods()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        TimedMethod timed = timedMethod(joinPoint);
+        OperationEvent event = timed.operation() == null ? null : new OperationEvent(timed.operation());
+        if (event != null) {
+            event.begin();
+        }
+        long started = System.nanoTime();
+        String failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable exception) {
+            failure = exception.getClass().getSimpleName();
+            throw exception;
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            if (failure == null) {
+                timed.success().record(elapsed, TimeUnit.NANOSECONDS);
+            } else {
+                methodMetrics.timer(timed.className(), timed.method(), failure).record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            if (event != null) {
+                event.outcome = failure == null ? MethodMetrics.SUCCESS : failure;
+                event.commit();
+            }
+        }
+    }
+
+    private TimedMethod timedMethod(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timedMethods.get(targetClass).computeIfAbsent(method, key -> {
+            Recorded recorded = key.getAnnotation(Recorded.class);
+            return new TimedMethod(targetClass.getSimpleName(), key.getName(),
+                    recorded == null ? null : recorded.value(),
+                    methodMetrics.timer(targetClass.getSimpleName(), key.getName(), MethodMetrics.SUCCESS));
+        });
+    }
+
+    private record TimedMethod(String className, String method, String operation, Timer success) {
+    }
+}
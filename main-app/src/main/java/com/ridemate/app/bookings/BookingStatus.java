@@ -1,8 +1,17 @@
 package com.ridemate.app.bookings;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum BookingStatus {
     PENDING,
     APPROVED,
     REJECTED,
-    CANCELLED
+    CANCELLED;
+
+    public static final Set<BookingStatus> ACTIVE_STATUSES = EnumSet.of(PENDING, APPROVED);
+
+    public boolean isActive() {
+        return ACTIVE_STATUSES.contains(this);
+    }
 }
@@ -10,7 +10,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_ride_passenger", columnList = "ride_id, passenger_id")
+})
 @Data
 public class Booking {
     @Id
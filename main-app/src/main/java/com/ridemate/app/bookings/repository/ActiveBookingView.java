@@ -0,0 +1,9 @@
+package com.ridemate.app.bookings.repository;
+
+import java.util.UUID;
+
+public interface ActiveBookingView {
+    UUID getRideId();
+
+    UUID getPassengerId();
+}
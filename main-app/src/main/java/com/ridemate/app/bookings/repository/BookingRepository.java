@@ -1,15 +1,34 @@
 package com.ridemate.app.bookings.repository;
 
+import com.ridemate.app.bookings.BookingStatus;
 import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.rides.RideStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
+    @EntityGraph(attributePaths = {"ride", "ride.driver", "passenger"})
     List<Booking> findByPassengerId(UUID passengerId);
 
+    @EntityGraph(attributePaths = {"ride", "ride.driver", "passenger"})
     List<Booking> findByRideDriverId(UUID driverId);
+
+    @EntityGraph(attributePaths = {"ride", "ride.driver", "passenger"})
+    List<Booking> findByIdIn(Collection<UUID> ids);
+
+    boolean existsByRideIdAndPassengerIdAndStatusIn(UUID rideId, UUID passengerId,
+            Collection<BookingStatus> statuses);
+
+    @Query("SELECT b.ride.id AS rideId, b.passenger.id AS passengerId FROM Booking b " +
+            "WHERE b.status IN :statuses AND b.ride.status = :rideStatus AND b.ride.dateTime > :after")
+    List<ActiveBookingView> findActiveBookings(Collection<BookingStatus> statuses, RideStatus rideStatus,
+            LocalDateTime after);
 }
@@ -7,13 +7,19 @@ import com.ridemate.app.bookings.repository.BookingRepository;
 import com.ridemate.app.exceptions.AccessDeniedException;
 import com.ridemate.app.exceptions.ConflictException;
 import com.ridemate.app.exceptions.ResourceNotFoundException;
+import com.ridemate.app.pdf.PdfCache;
+import com.ridemate.app.rides.cache.RideCache;
 import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.rides.search.RideSearchIndex;
+import com.ridemate.app.rides.service.SeatReservationService;
 import com.ridemate.app.security.CustomUserDetails;
 import com.ridemate.app.users.entity.User;
 import com.ridemate.app.users.service.UserService;
 import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.client.audit.AuditPublisher;
+import com.ridemate.app.monitoring.Recorded;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,18 +39,42 @@ public class BookingService {
     private RideRepository rideRepository;
 
     @Autowired
-    private com.ridemate.app.client.audit.AuditClient auditClient;
+    private AuditPublisher auditPublisher;
+
+    @Autowired
+    private SeatReservationService seatReservationService;
+
+    @Autowired
+    private RideSearchIndex rideSearchIndex;
+
+    @Autowired
+    private RideCache rideCache;
+
+    @Autowired
+    private PdfCache pdfCache;
 
     @Transactional
-    @CacheEvict(value = { "rides", "ride" }, allEntries = true)
+    @Recorded("bookings.create")
     public Booking createBooking(CustomUserDetails currentUser, BookingDto bookingDto) {
         User user = userService.getUser(currentUser);
-        if (user.getRole() != com.ridemate.app.users.UserRole.USER) {
+        Booking savedBooking = book(user, bookingDto.getRideId());
+        auditPublisher.publish(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
+                user.getId(),
+                "CREATE",
+                "BOOKING",
+                savedBooking.getId(),
+                "Booking created"));
+        return savedBooking;
+    }
+
+    @Transactional
+    public Booking book(User passenger, UUID rideId) {
+        if (passenger.getRole() != com.ridemate.app.users.UserRole.USER) {
             throw new AccessDeniedException("Only passengers can book rides");
         }
-        Ride ride = rideRepository.findById(bookingDto.getRideId())
+        Ride ride = rideRepository.findById(rideId)
                 .orElseThrow(() -> new ResourceNotFoundException("Ride not found"));
-        if (ride.getDriver().getId().equals(user.getId())) {
+        if (ride.getDriver().getId().equals(passenger.getId())) {
             throw new ConflictException("Cannot book your own ride");
         }
         if (ride.getDateTime().isBefore(java.time.LocalDateTime.now())) {
@@ -53,66 +83,61 @@ public class BookingService {
         if (ride.getSeatsTaken() >= ride.getSeatsAvailable()) {
             throw new ConflictException("No seats available");
         }
+        if (bookingRepository.existsByRideIdAndPassengerIdAndStatusIn(rideId, passenger.getId(),
+                BookingStatus.ACTIVE_STATUSES)) {
+            throw new ConflictException("Already booked");
+        }
+        seatReservationService.reserve(rideId);
+        ride = rideRepository.findById(rideId)
+                .orElseThrow(() -> new ResourceNotFoundException("Ride not found"));
         Booking booking = new Booking();
-        booking.setPassenger(user);
+        booking.setPassenger(passenger);
         booking.setRide(ride);
         booking.setStatus(BookingStatus.PENDING);
-        ride.setSeatsTaken(ride.getSeatsTaken() + 1);
-        rideRepository.save(ride);
-        Booking savedBooking = bookingRepository.save(booking);
+        Booking savedBooking;
         try {
-            auditClient.createEntry(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
-                    user.getId(),
-                    "CREATE",
-                    "BOOKING",
-                    savedBooking.getId(),
-                    "Booking created"));
-        } catch (Exception e) {
-            System.err.println("Failed to create audit entry: " + e.getMessage());
+            savedBooking = bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            // a concurrent request from the same passenger won the unique active-booking index
+            throw new ConflictException("Already booked");
         }
+        rideSearchIndex.addPassenger(rideId, passenger.getId());
+        rideSearchIndex.put(ride);
+        rideCache.rideChanged(rideId);
         return savedBooking;
     }
 
     public List<Booking> getMyBookings(CustomUserDetails currentUser) {
-        User user = userService.getUser(currentUser);
+        User user = currentUser.getUser();
         return bookingRepository.findByPassengerId(user.getId());
     }
 
     public List<Booking> getBookingRequests(CustomUserDetails currentUser) {
-        User user = userService.getUser(currentUser);
+        User user = currentUser.getUser();
         return bookingRepository.findByRideDriverId(user.getId());
     }
 
-    @CacheEvict(value = { "rides", "ride" }, allEntries = true)
+    @Transactional
     public Booking cancelBooking(CustomUserDetails currentUser, UUID id) {
-        User user = userService.getUser(currentUser);
+        User user = currentUser.getUser();
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
         if (!booking.getPassenger().getId().equals(user.getId())) {
             throw new AccessDeniedException("You are not authorized to cancel this booking");
         }
-        booking.setStatus(BookingStatus.CANCELLED);
-        Ride ride = booking.getRide();
-        ride.setSeatsTaken(ride.getSeatsTaken() - 1);
-        rideRepository.save(ride);
-        Booking savedBooking = bookingRepository.save(booking);
-        try {
-            auditClient.createEntry(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
-                    user.getId(),
-                    "CANCEL",
-                    "BOOKING",
-                    savedBooking.getId(),
-                    "Booking cancelled"));
-        } catch (Exception e) {
-            System.err.println("Failed to create audit entry: " + e.getMessage());
-        }
+        Booking savedBooking = releaseBooking(booking, BookingStatus.CANCELLED);
+        auditPublisher.publish(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
+                user.getId(),
+                "CANCEL",
+                "BOOKING",
+                savedBooking.getId(),
+                "Booking cancelled"));
         return savedBooking;
     }
 
     @Transactional
-    @CacheEvict(value = { "rides", "ride" }, allEntries = true)
     public Booking rejectBooking(CustomUserDetails currentUser, UUID id) {
-        User user = userService.getUser(currentUser);
+        User user = userService.refreshUser(currentUser);
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
         if (user.getRole() != com.ridemate.app.users.UserRole.DRIVER) {
@@ -121,29 +146,20 @@ public class BookingService {
         if (!booking.getRide().getDriver().getId().equals(user.getId())) {
             throw new AccessDeniedException("You are not authorized to reject this booking");
         }
-        booking.setStatus(BookingStatus.REJECTED);
-        Ride ride = booking.getRide();
-        ride.setSeatsTaken(ride.getSeatsTaken() - 1);
-        rideRepository.save(ride);
-        Booking savedBooking = bookingRepository.save(booking);
+        Booking savedBooking = releaseBooking(booking, BookingStatus.REJECTED);
 
-        try {
-            auditClient.createEntry(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
-                    user.getId(),
-                    "REJECT",
-                    "BOOKING",
-                    savedBooking.getId(),
-                    "Booking rejected"));
-        } catch (Exception e) {
-            System.err.println("Failed to create audit entry: " + e.getMessage());
-        }
+        auditPublisher.publish(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
+                user.getId(),
+                "REJECT",
+                "BOOKING",
+                savedBooking.getId(),
+                "Booking rejected"));
         return savedBooking;
     }
 
     @Transactional
-    @CacheEvict(value = { "rides", "ride" }, allEntries = true)
     public Booking approveBooking(CustomUserDetails currentUser, UUID id) {
-        User user = userService.getUser(currentUser);
+        User user = userService.refreshUser(currentUser);
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
         if (user.getRole() != com.ridemate.app.users.UserRole.DRIVER) {
@@ -152,18 +168,36 @@ public class BookingService {
         if (!booking.getRide().getDriver().getId().equals(user.getId())) {
             throw new AccessDeniedException("You are not authorized to approve this booking");
         }
+        if (booking.getStatus() != BookingStatus.PENDING) {
+            throw new ConflictException("Only pending bookings can be approved");
+        }
         booking.setStatus(BookingStatus.APPROVED);
         Booking savedBooking = bookingRepository.save(booking);
+        pdfCache.bookingChanged(savedBooking.getId());
 
-        try {
-            auditClient.createEntry(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
-                    user.getId(),
-                    "APPROVE",
-                    "BOOKING",
-                    savedBooking.getId(),
-                    "Booking approved"));
-        } catch (Exception e) {
-            System.err.println("Failed to create audit entry: " + e.getMessage());
+        auditPublisher.publish(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
+                user.getId(),
+                "APPROVE",
+                "BOOKING",
+                savedBooking.getId(),
+                "Booking approved"));
+        return savedBooking;
+    }
+
+    private Booking releaseBooking(Booking booking, BookingStatus status) {
+        boolean holdsSeat = booking.getStatus().isActive();
+        UUID rideId = booking.getRide().getId();
+        booking.setStatus(status);
+        Booking savedBooking = bookingRepository.save(booking);
+        pdfCache.bookingChanged(savedBooking.getId());
+        if (holdsSeat) {
+            seatReservationService.release(rideId);
+            Ride ride = rideRepository.findById(rideId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Ride not found"));
+            savedBooking.setRide(ride);
+            rideSearchIndex.removePassenger(rideId, booking.getPassenger().getId());
+            rideSearchIndex.put(ride);
+            rideCache.rideChanged(rideId);
         }
         return savedBooking;
     }
@@ -7,12 +7,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "audit-service", url = "http://localhost:8083/audit")
+@FeignClient(name = "audit-service", url = "${ridemate.audit.url:http://localhost:8083/audit}")
 public interface AuditClient {
 
     @PostMapping
     ResponseEntity<AuditEntryViewDTO> createEntry(@RequestBody CreateAuditEntryDTO dto);
 
+    @PostMapping("/batch")
+    ResponseEntity<java.util.Map<String, Integer>> createEntries(@RequestBody java.util.List<CreateAuditEntryDTO> dtos);
+
     @org.springframework.web.bind.annotation.GetMapping("/user/{userId}")
     ResponseEntity<java.util.List<AuditEntryViewDTO>> getEntriesForUser(
             @org.springframework.web.bind.annotation.PathVariable("userId") java.util.UUID userId);
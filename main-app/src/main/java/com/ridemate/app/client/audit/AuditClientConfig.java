@@ -0,0 +1,22 @@
+package com.ridemate.app.client.audit;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AuditClientConfig {
+
+    @Bean
+    public MeterBinder auditClientPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> connectionManager.ifAvailable(manager -> {
+            if (manager instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, AuditClientResilience.NAME).bindTo(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.ridemate.app.client.audit;
+
+import com.ridemate.app.monitoring.AuditCallEvent;
+import com.ridemate.app.monitoring.MethodMetrics;
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AuditClientMetrics implements Capability {
+
+    private final MethodMetrics methodMetrics;
+
+    public AuditClientMetrics(MethodMetrics methodMetrics) {
+        this.methodMetrics = methodMetrics;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Method method = request.requestTemplate().methodMetadata().method();
+            if (method.getDeclaringClass() != AuditClient.class) {
+                return client.execute(request, options);
+            }
+            AuditCallEvent event = new AuditCallEvent(method.getName());
+            event.begin();
+            long started = System.nanoTime();
+            String outcome = MethodMetrics.SUCCESS;
+            try {
+                Response response = client.execute(request, options);
+                event.status = response.status();
+                if (response.status() >= 400) {
+                    outcome = "HTTP_" + response.status();
+                }
+                return response;
+            } catch (Exception exception) {
+                outcome = exception.getClass().getSimpleName();
+                throw exception;
+            } finally {
+                methodMetrics.timer(AuditClient.class.getSimpleName(), method.getName(), outcome)
+                        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                event.outcome = outcome;
+                event.commit();
+            }
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package com.ridemate.app.client.audit;
+
+import com.ridemate.app.exceptions.ServiceUnavailableException;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AuditClientResilience implements Capability {
+
+    public static final String NAME = "audit-service";
+    public static final String REJECTED_COUNTER = "ridemate.audit.client.rejected";
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditClientResilience.class);
+
+    private final Map<String, Long> connectTimeouts;
+    private final Map<String, Long> readTimeouts;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+
+    public AuditClientResilience(MeterRegistry meterRegistry,
+            @Value("${ridemate.audit.client.connect-timeouts:}") String connectTimeouts,
+            @Value("${ridemate.audit.client.read-timeouts:}") String readTimeouts,
+            @Value("${ridemate.audit.client.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${ridemate.audit.client.bulkhead.max-wait-ms:0}") long maxWaitMillis,
+            @Value("${ridemate.audit.client.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${ridemate.audit.client.circuit-breaker.slow-call-duration-ms:2000}") long slowCallMillis,
+            @Value("${ridemate.audit.client.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${ridemate.audit.client.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${ridemate.audit.client.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${ridemate.audit.client.circuit-breaker.open-state-ms:10000}") long openStateMillis,
+            @Value("${ridemate.audit.client.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        this.connectTimeouts = parseTimeouts(connectTimeouts);
+        this.readTimeouts = parseTimeouts(readTimeouts);
+
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMillis))
+                .build());
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMillis))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(openStateMillis))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .build());
+        this.bulkhead = bulkheads.bulkhead(NAME);
+        this.circuitBreaker = circuitBreakers.circuitBreaker(NAME);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                logger.warn("Audit service circuit breaker: {}", event.getStateTransition()));
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        this.bulkheadRejections = Counter.builder(REJECTED_COUNTER).tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+        this.circuitRejections = Counter.builder(REJECTED_COUNTER).tag("reason", "circuit_open")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Method method = request.requestTemplate().methodMetadata().method();
+            if (method.getDeclaringClass() != AuditClient.class) {
+                return client.execute(request, options);
+            }
+            if (!bulkhead.tryAcquirePermission()) {
+                bulkheadRejections.increment();
+                throw new ServiceUnavailableException("Too many concurrent audit service calls");
+            }
+            try {
+                if (!circuitBreaker.tryAcquirePermission()) {
+                    circuitRejections.increment();
+                    throw new ServiceUnavailableException("Audit service circuit breaker is "
+                            + circuitBreaker.getState());
+                }
+                return execute(client, request, options(method.getName(), options));
+            } finally {
+                bulkhead.onComplete();
+            }
+        };
+    }
+
+    CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    private Response execute(Client client, Request request, Request.Options options) throws IOException {
+        long started = circuitBreaker.getCurrentTimestamp();
+        try {
+            Response response = client.execute(request, options);
+            long duration = circuitBreaker.getCurrentTimestamp() - started;
+            if (response.status() >= 500) {
+                circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(),
+                        new ServiceUnavailableException("Audit service returned HTTP " + response.status()));
+            } else {
+                circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - started, circuitBreaker.getTimestampUnit(),
+                    e);
+            throw e;
+        }
+    }
+
+    private Request.Options options(String method, Request.Options defaults) {
+        Long connect = connectTimeouts.get(method);
+        Long read = readTimeouts.get(method);
+        if (connect == null && read == null) {
+            return defaults;
+        }
+        return new Request.Options(connect == null ? defaults.connectTimeoutMillis() : connect, TimeUnit.MILLISECONDS,
+                read == null ? defaults.readTimeoutMillis() : read, TimeUnit.MILLISECONDS,
+                defaults.isFollowRedirects());
+    }
+
+    private static Map<String, Long> parseTimeouts(String value) {
+        Map<String, Long> timeouts = new HashMap<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid audit client timeout: " + entry.trim());
+            }
+            timeouts.put(entry.substring(0, separator).trim(), Long.parseLong(entry.substring(separator + 1).trim()));
+        }
+        return timeouts;
+    }
+}
@@ -0,0 +1,49 @@
+package com.ridemate.app.client.audit;
+
+import com.ridemate.app.client.audit.repository.AuditOutboxRepository;
+import com.ridemate.app.common.TransactionCallbacks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class AuditOutboxDepth {
+
+    public static final String GAUGE_NAME = "ridemate.audit.outbox.depth";
+
+    private final AuditOutboxRepository auditOutboxRepository;
+    private final long refreshMillis;
+    private final AtomicLong pending = new AtomicLong();
+
+    private volatile long refreshedAt;
+
+    public AuditOutboxDepth(AuditOutboxRepository auditOutboxRepository, MeterRegistry meterRegistry,
+            @Value("${ridemate.audit.outbox.depth-refresh-ms:60000}") long refreshMillis) {
+        this.auditOutboxRepository = auditOutboxRepository;
+        this.refreshMillis = refreshMillis;
+        Gauge.builder(GAUGE_NAME, pending, AtomicLong::get).register(meterRegistry);
+    }
+
+    public void added() {
+        TransactionCallbacks.afterCommit(pending::incrementAndGet);
+    }
+
+    void removed(long count) {
+        pending.accumulateAndGet(count, (current, removed) -> Math.max(0, current - removed));
+    }
+
+    void refreshIfDue() {
+        long now = System.currentTimeMillis();
+        if (refreshedAt == 0 || now - refreshedAt >= refreshMillis) {
+            refreshedAt = now;
+            pending.set(auditOutboxRepository.countByDeadLetteredAtIsNull());
+        }
+    }
+
+    long pending() {
+        return pending.get();
+    }
+}
@@ -0,0 +1,166 @@
+package com.ridemate.app.client.audit;
+
+import com.ridemate.app.client.audit.entity.AuditOutboxEntry;
+import com.ridemate.app.client.audit.repository.AuditOutboxRepository;
+import feign.FeignException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class AuditOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditOutboxRelay.class);
+
+    private final AuditOutboxRepository auditOutboxRepository;
+    private final AuditClient auditClient;
+    private final AuditOutboxDepth auditOutboxDepth;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Duration claimTimeout;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final Timer batchLatency;
+    private final Timer deliveryLatency;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long nextAttemptAt;
+
+    public AuditOutboxRelay(AuditOutboxRepository auditOutboxRepository, AuditClient auditClient,
+            AuditOutboxDepth auditOutboxDepth, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${ridemate.audit.outbox.batch-size:100}") int batchSize,
+            @Value("${ridemate.audit.outbox.initial-backoff-ms:1000}") long initialBackoffMillis,
+            @Value("${ridemate.audit.outbox.max-backoff-ms:60000}") long maxBackoffMillis,
+            @Value("${ridemate.audit.outbox.claim-timeout-ms:60000}") long claimTimeoutMillis) {
+        this.auditOutboxRepository = auditOutboxRepository;
+        this.auditClient = auditClient;
+        this.auditOutboxDepth = auditOutboxDepth;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+
+        FunctionCounter.builder("ridemate.audit.entries", sent, AtomicLong::get)
+                .tag("result", "sent").register(meterRegistry);
+        FunctionCounter.builder("ridemate.audit.entries", failed, AtomicLong::get)
+                .tag("result", "failed").register(meterRegistry);
+        FunctionCounter.builder("ridemate.audit.entries", deadLettered, AtomicLong::get)
+                .tag("result", "dead_lettered").register(meterRegistry);
+        this.batchLatency = Timer.builder("ridemate.audit.batch.latency").register(meterRegistry);
+        this.deliveryLatency = Timer.builder("ridemate.audit.delivery.latency").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${ridemate.audit.outbox.poll-interval-ms:500}")
+    public void relay() {
+        if (System.currentTimeMillis() < nextAttemptAt) {
+            return;
+        }
+        auditOutboxDepth.refreshIfDue();
+        List<AuditOutboxEntry> batch;
+        do {
+            batch = claimBatch();
+            if (batch.isEmpty() || !deliver(batch)) {
+                return;
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private List<AuditOutboxEntry> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimedUntil = now.plus(claimTimeout);
+        List<AuditOutboxEntry> batch = transactionTemplate.execute(status -> {
+            List<AuditOutboxEntry> claimed = auditOutboxRepository.findClaimable(now, Limit.of(batchSize));
+            claimed.forEach(entry -> entry.setClaimedUntil(claimedUntil));
+            return claimed;
+        });
+        return batch == null ? List.of() : batch;
+    }
+
+    private boolean deliver(List<AuditOutboxEntry> batch) {
+        List<Long> ids = ids(batch);
+        long started = System.nanoTime();
+        try {
+            auditClient.createEntries(batch.stream().map(AuditOutboxEntry::toDto).toList());
+        } catch (Exception e) {
+            if (rejected(e)) {
+                return split(batch, e);
+            }
+            retryLater(ids, e);
+            return false;
+        } finally {
+            batchLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        transactionTemplate.executeWithoutResult(status -> auditOutboxRepository.deleteAllByIdInBatch(ids));
+        sent.addAndGet(batch.size());
+        auditOutboxDepth.removed(batch.size());
+        consecutiveFailures.set(0);
+        LocalDateTime now = LocalDateTime.now();
+        for (AuditOutboxEntry entry : batch) {
+            deliveryLatency.record(Duration.between(entry.getCreatedAt(), now));
+        }
+        return true;
+    }
+
+    private boolean split(List<AuditOutboxEntry> batch, Exception e) {
+        if (batch.size() == 1) {
+            AuditOutboxEntry entry = batch.get(0);
+            transactionTemplate.executeWithoutResult(status -> auditOutboxRepository.deadLetter(List.of(entry.getId()),
+                    LocalDateTime.now(), String.valueOf(e.getMessage())));
+            deadLettered.incrementAndGet();
+            auditOutboxDepth.removed(1);
+            logger.warn("Audit service rejected outbox entry {}, moved it to dead letter: {}", entry.getId(),
+                    e.getMessage());
+            return true;
+        }
+        List<AuditOutboxEntry> first = batch.subList(0, batch.size() / 2);
+        List<AuditOutboxEntry> second = batch.subList(batch.size() / 2, batch.size());
+        if (!deliver(first)) {
+            transactionTemplate.executeWithoutResult(status -> auditOutboxRepository.release(ids(second)));
+            return false;
+        }
+        return deliver(second);
+    }
+
+    private void retryLater(List<Long> ids, Exception e) {
+        transactionTemplate.executeWithoutResult(status -> auditOutboxRepository.releaseFailed(ids,
+                String.valueOf(e.getMessage())));
+        failed.addAndGet(ids.size());
+        scheduleRetry(e);
+    }
+
+    static boolean rejected(Exception e) {
+        return e instanceof FeignException feign && feign.status() >= 400 && feign.status() < 500
+                && feign.status() != 408 && feign.status() != 429;
+    }
+
+    private static List<Long> ids(List<AuditOutboxEntry> entries) {
+        return entries.stream().map(AuditOutboxEntry::getId).toList();
+    }
+
+    private void scheduleRetry(Exception e) {
+        long backoff = Math.min(maxBackoffMillis,
+                initialBackoffMillis << Math.min(consecutiveFailures.getAndIncrement(), 20));
+        nextAttemptAt = System.currentTimeMillis() + backoff;
+        logger.warn("Failed to relay audit outbox batch, retrying in {} ms: {}", backoff, e.getMessage());
+    }
+}
@@ -0,0 +1,26 @@
+package com.ridemate.app.client.audit;
+
+import com.ridemate.app.client.audit.dto.CreateAuditEntryDTO;
+import com.ridemate.app.client.audit.entity.AuditOutboxEntry;
+import com.ridemate.app.client.audit.repository.AuditOutboxRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class AuditPublisher {
+
+    private final AuditOutboxRepository auditOutboxRepository;
+    private final AuditOutboxDepth auditOutboxDepth;
+
+    public AuditPublisher(AuditOutboxRepository auditOutboxRepository, AuditOutboxDepth auditOutboxDepth) {
+        this.auditOutboxRepository = auditOutboxRepository;
+        this.auditOutboxDepth = auditOutboxDepth;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(CreateAuditEntryDTO entry) {
+        auditOutboxRepository.save(new AuditOutboxEntry(entry));
+        auditOutboxDepth.added();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ridemate.app.client.audit.entity;
+
+import com.ridemate.app.client.audit.dto.CreateAuditEntryDTO;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "audit_outbox")
+@Data
+@NoArgsConstructor
+public class AuditOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private String actionType;
+
+    @Column(nullable = false)
+    private String entityType;
+
+    @Column(nullable = false)
+    private UUID entityId;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private int attempts;
+
+    private LocalDateTime claimedUntil;
+
+    private LocalDateTime deadLetteredAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    public AuditOutboxEntry(CreateAuditEntryDTO dto) {
+        this.userId = dto.getUserId();
+        this.actionType = dto.getActionType();
+        this.entityType = dto.getEntityType();
+        this.entityId = dto.getEntityId();
+        this.description = dto.getDescription();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public CreateAuditEntryDTO toDto() {
+        return new CreateAuditEntryDTO(userId, actionType, entityType, entityId, description);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ridemate.app.client.audit.repository;
+
+import com.ridemate.app.client.audit.entity.AuditOutboxEntry;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AuditOutboxRepository extends JpaRepository<AuditOutboxEntry, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM AuditOutboxEntry e " +
+            "WHERE e.deadLetteredAt IS NULL AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) ORDER BY e.id")
+    List<AuditOutboxEntry> findClaimable(LocalDateTime now, Limit limit);
+
+    long countByDeadLetteredAtIsNull();
+
+    @Modifying
+    @Query("UPDATE AuditOutboxEntry e SET e.lastError = :error, e.claimedUntil = NULL WHERE e.id IN :ids")
+    int releaseFailed(Collection<Long> ids, String error);
+
+    @Modifying
+    @Query("UPDATE AuditOutboxEntry e SET e.claimedUntil = NULL WHERE e.id IN :ids")
+    int release(Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE AuditOutboxEntry e SET e.attempts = e.attempts + 1, e.deadLetteredAt = :now, " +
+            "e.lastError = :error, e.claimedUntil = NULL WHERE e.id IN :ids")
+    int deadLetter(Collection<Long> ids, LocalDateTime now, String error);
+}
@@ -0,0 +1,53 @@
+package com.ridemate.app.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final QueryCountInspector queryCountInspector;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(QueryCountInspector queryCountInspector, MeterRegistry meterRegistry) {
+        this.queryCountInspector = queryCountInspector;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        queryCountInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = queryCountInspector.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            DistributionSummary.builder("ridemate.http.queries")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(queries);
+            logger.debug("{} {} executed {} queries", request.getMethod(), uri, queries);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ridemate.app.common;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class QueryCountInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    public int count() {
+        int[] counter = COUNTER.get();
+        return counter == null ? 0 : counter[0];
+    }
+
+    public int stop() {
+        int count = count();
+        COUNTER.remove();
+        return count;
+    }
+}
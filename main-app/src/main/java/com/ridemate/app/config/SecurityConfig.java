@@ -2,6 +2,7 @@ package com.ridemate.app.config;
 
 import com.ridemate.app.security.JwtAuthFilter;
 import com.ridemate.app.security.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -35,8 +36,11 @@ public class SecurityConfig {
                 .cors(Customizer.withDefaults())
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/users/").hasRole("ADMIN")
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**", "/actuator/slowoperations")
+                        .hasRole("ADMIN")
                         .requestMatchers("/api/v1/users/*/role").hasRole("ADMIN")
                         .requestMatchers("/api/v1/rides/create", "/api/v1/rides/*/update", "/api/v1/rides/*/delete",
                                 "/api/v1/bookings/requests", "/api/v1/bookings/*/reject", "/api/v1/bookings/*/approve")
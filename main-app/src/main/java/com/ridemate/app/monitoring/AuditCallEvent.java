@@ -0,0 +1,29 @@
+package com.ridemate.app.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ridemate.AuditCall")
+@Label("Audit Service Call")
+@Description("An HTTP call from main-app to audit-service")
+@Category("RideMate")
+@StackTrace(false)
+public class AuditCallEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("HTTP Status")
+    public int status;
+
+    @Label("Outcome")
+    public String outcome;
+
+    public AuditCallEvent(String method) {
+        this.method = method;
+    }
+}
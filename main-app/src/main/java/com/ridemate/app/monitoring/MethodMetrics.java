@@ -0,0 +1,38 @@
+package com.ridemate.app.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class MethodMetrics {
+
+    public static final String TIMER_NAME = "ridemate.method.duration";
+    public static final String SUCCESS = "success";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean percentileHistogram;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MethodMetrics(MeterRegistry meterRegistry,
+                         @Value("${ridemate.metrics.method.percentile-histogram:true}") boolean percentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    public Timer timer(String className, String method, String outcome) {
+        return timers.computeIfAbsent(new TimerKey(className, method, outcome), key -> Timer.builder(TIMER_NAME)
+                .tag("class", key.className())
+                .tag("method", key.method())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry));
+    }
+
+    private record TimerKey(String className, String method, String outcome) {
+    }
+}
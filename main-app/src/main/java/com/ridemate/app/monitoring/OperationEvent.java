@@ -0,0 +1,26 @@
+package com.ridemate.app.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ridemate.Operation")
+@Label("RideMate Operation")
+@Description("A hot-path service operation such as a ride search, booking or PDF render")
+@Category("RideMate")
+@StackTrace(false)
+public class OperationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Outcome")
+    public String outcome;
+
+    public OperationEvent(String operation) {
+        this.operation = operation;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ridemate.app.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Endpoint(id = "slowoperations")
+public class SlowOperationsEndpoint {
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultLimit;
+
+    public SlowOperationsEndpoint(MeterRegistry meterRegistry,
+                                  @Value("${ridemate.metrics.slow-operations.limit:10}") int defaultLimit) {
+        this.meterRegistry = meterRegistry;
+        this.defaultLimit = defaultLimit;
+    }
+
+    @ReadOperation
+    public List<SlowOperation> slowOperations(@Nullable Integer limit) {
+        return meterRegistry.find(MethodMetrics.TIMER_NAME).timers().stream()
+                .filter(timer -> timer.count() > 0)
+                .map(SlowOperationsEndpoint::toSlowOperation)
+                .sorted(Comparator.comparingDouble(SlowOperation::maxMs).reversed()
+                        .thenComparing(Comparator.comparingDouble(SlowOperation::meanMs).reversed()))
+                .limit(limit == null ? defaultLimit : Math.max(0, limit))
+                .toList();
+    }
+
+    private static SlowOperation toSlowOperation(Timer timer) {
+        return new SlowOperation(timer.getId().getTag("class") + "." + timer.getId().getTag("method"),
+                timer.getId().getTag("outcome"), timer.count(), timer.mean(TimeUnit.MILLISECONDS),
+                timer.max(TimeUnit.MILLISECONDS));
+    }
+
+    public record SlowOperation(String operation, String outcome, long count, double meanMs, double maxMs) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.ridemate.app.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    public static final String COUNTER_NAME = "ridemate.virtual.pinned";
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.ridemate.";
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final int stackDepth;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${ridemate.virtual-threads.pinned-threshold-ms:20}") long thresholdMillis,
+                                       @Value("${ridemate.virtual-threads.pinned-stack-depth:8}") int stackDepth) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.stackDepth = stackDepth;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::pinned);
+        stream.startAsync();
+        logger.info("Virtual threads enabled; reporting carrier pinning longer than {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    void pinned(RecordedEvent event) {
+        List<String> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .limit(stackDepth)
+                .collect(Collectors.toList());
+        record(site(frames), event.getDuration(), frames);
+    }
+
+    void record(String site, Duration duration, List<String> frames) {
+        Counter.builder(COUNTER_NAME)
+                .tag("site", site)
+                .register(meterRegistry)
+                .increment();
+        logger.warn("Virtual thread pinned its carrier for {} ms at {}\n\t{}", duration.toMillis(), site,
+                String.join("\n\t", frames));
+    }
+
+    static String site(List<String> frames) {
+        return frames.stream()
+                .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.substring(0, frame.lastIndexOf(':')))
+                .orElse(frames.isEmpty() ? "unknown" : frames.get(0).substring(0, frames.get(0).lastIndexOf(':')));
+    }
+}
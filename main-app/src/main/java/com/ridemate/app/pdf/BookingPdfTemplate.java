@@ -0,0 +1,79 @@
+package com.ridemate.app.pdf;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.ridemate.app.bookings.entity.Booking;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class BookingPdfTemplate {
+
+    private static final float MARGIN = 36;
+    private static final float VALUE_X = 150;
+    private static final float FIELD_TOP = 750;
+    private static final float FIELD_SPACING = 20;
+    private static final float FIELD_FONT_SIZE = 12;
+    private static final List<String> LABELS = List.of("Booking ID:", "Booking Date:", "Booking Status:",
+            "Booking Price:", "Booking Driver:");
+
+    private final FontProgram fontProgram;
+    private final List<TextPiece> staticPieces;
+
+    BookingPdfTemplate() {
+        try {
+            this.fontProgram = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<TextPiece> pieces = new ArrayList<>();
+        pieces.add(new TextPiece("Booking Confirmation", 18, MARGIN, 790));
+        for (int i = 0; i < LABELS.size(); i++) {
+            pieces.add(new TextPiece(LABELS.get(i), FIELD_FONT_SIZE, MARGIN, fieldY(i)));
+        }
+        pieces.add(new TextPiece("Thank you for choosing RideMate!", FIELD_FONT_SIZE, MARGIN,
+                fieldY(LABELS.size() + 1)));
+        pieces.add(new TextPiece("RideMate", 10, MARGIN, 60));
+        this.staticPieces = List.copyOf(pieces);
+    }
+
+    void write(Booking booking, OutputStream out) {
+        PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false);
+        PdfDocument pdf = new PdfDocument(writer);
+        PdfCanvas canvas = new PdfCanvas(pdf.addNewPage(PageSize.A4));
+        PdfFont font = PdfFontFactory.createFont(fontProgram, PdfEncodings.WINANSI);
+        for (TextPiece piece : staticPieces) {
+            piece.draw(canvas, font);
+        }
+        String[] values = {String.valueOf(booking.getId()), String.valueOf(booking.getCreatedAt()),
+                String.valueOf(booking.getStatus()), String.valueOf(booking.getRide().getPrice()),
+                String.valueOf(booking.getRide().getDriver().getUsername())};
+        for (int i = 0; i < values.length; i++) {
+            new TextPiece(values[i], FIELD_FONT_SIZE, VALUE_X, fieldY(i)).draw(canvas, font);
+        }
+        pdf.close();
+    }
+
+    private static float fieldY(int index) {
+        return FIELD_TOP - FIELD_SPACING * index;
+    }
+
+    private record TextPiece(String text, float size, float x, float y) {
+
+        void draw(PdfCanvas canvas, PdfFont font) {
+            canvas.beginText().setFontAndSize(font, size).moveText(x, y).showText(text).endText();
+        }
+    }
+}
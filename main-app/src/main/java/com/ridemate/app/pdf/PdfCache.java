@@ -0,0 +1,237 @@
+package com.ridemate.app.pdf;
+
+import com.ridemate.app.common.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class PdfCache {
+
+    private static final String SUFFIX = ".pdf";
+    private static final String TEMP_PREFIX = "render-";
+
+    private final Path directory;
+    private final long memoryMaxBytes;
+    private final long memoryMaxEntryBytes;
+    private final long diskMaxBytes;
+    private final int diskMaxEntries;
+
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, DiskEntry> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UUID, String> keysByBooking = new ConcurrentHashMap<>();
+    private long memoryBytes;
+    private long diskBytes;
+
+    public PdfCache(@Value("${ridemate.pdf.cache.dir:${java.io.tmpdir}/ridemate-pdf-cache}") Path directory,
+                    @Value("${ridemate.pdf.cache.memory-max-bytes:16777216}") long memoryMaxBytes,
+                    @Value("${ridemate.pdf.cache.memory-max-entry-bytes:262144}") long memoryMaxEntryBytes,
+                    @Value("${ridemate.pdf.cache.disk-max-bytes:268435456}") long diskMaxBytes,
+                    @Value("${ridemate.pdf.cache.disk-max-entries:10000}") int diskMaxEntries) {
+        this.directory = directory;
+        this.memoryMaxBytes = memoryMaxBytes;
+        this.memoryMaxEntryBytes = memoryMaxEntryBytes;
+        this.diskMaxBytes = diskMaxBytes;
+        this.diskMaxEntries = diskMaxEntries;
+        try {
+            Files.createDirectories(directory);
+            loadIndex();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(String key, UUID bookingId, OutputStream out, Consumer<OutputStream> renderer)
+            throws IOException {
+        String previous = keysByBooking.put(bookingId, key);
+        if (previous != null && !previous.equals(key)) {
+            evict(previous);
+        }
+
+        byte[] cached = fromMemory(key);
+        if (cached != null) {
+            out.write(cached);
+            return;
+        }
+
+        try {
+            copy(key, rendered(key, bookingId, renderer, false), out);
+        } catch (NoSuchFileException e) {
+            // evicted between the index check and the read
+            copy(key, rendered(key, bookingId, renderer, true), out);
+        }
+    }
+
+    public void bookingChanged(UUID bookingId) {
+        TransactionCallbacks.afterCommit(() -> {
+            String key = keysByBooking.remove(bookingId);
+            if (key != null) {
+                evict(key);
+            }
+        });
+    }
+
+    synchronized boolean inMemory(String key) {
+        return memory.containsKey(key);
+    }
+
+    boolean onDisk(String key) {
+        return Files.exists(file(key));
+    }
+
+    synchronized long diskBytes() {
+        return diskBytes;
+    }
+
+    synchronized int diskEntries() {
+        return disk.size();
+    }
+
+    private Path rendered(String key, UUID bookingId, Consumer<OutputStream> renderer, boolean force)
+            throws IOException {
+        Path file = file(key);
+        if (force || !indexed(key)) {
+            render(file, renderer);
+            stored(key, bookingId, Files.size(file));
+        }
+        return file;
+    }
+
+    private void copy(String key, Path file, OutputStream out) throws IOException {
+        if (Files.size(file) <= memoryMaxEntryBytes) {
+            byte[] bytes = Files.readAllBytes(file);
+            toMemory(key, bytes);
+            out.write(bytes);
+        } else {
+            Files.copy(file, out);
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.collect(Collectors.toList());
+        }
+        List<Path> pdfs = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(SUFFIX)) {
+                pdfs.add(file);
+            } else if (name.startsWith(TEMP_PREFIX)) {
+                Files.deleteIfExists(file);
+            }
+        }
+        pdfs.sort(Comparator.comparing(PdfCache::lastModified));
+        for (Path file : pdfs) {
+            String name = file.getFileName().toString();
+            stored(name.substring(0, name.length() - SUFFIX.length()), null, Files.size(file));
+        }
+    }
+
+    private synchronized boolean indexed(String key) {
+        return disk.get(key) != null;
+    }
+
+    private void stored(String key, UUID bookingId, long size) throws IOException {
+        List<String> victims = new ArrayList<>();
+        synchronized (this) {
+            DiskEntry replaced = disk.put(key, new DiskEntry(bookingId, size));
+            diskBytes += size - (replaced == null ? 0 : replaced.size());
+            Iterator<Map.Entry<String, DiskEntry>> eldest = disk.entrySet().iterator();
+            while ((diskBytes > diskMaxBytes || disk.size() > diskMaxEntries) && disk.size() > 1) {
+                Map.Entry<String, DiskEntry> victim = eldest.next();
+                diskBytes -= victim.getValue().size();
+                eldest.remove();
+                victims.add(victim.getKey());
+                if (victim.getValue().bookingId() != null) {
+                    keysByBooking.remove(victim.getValue().bookingId(), victim.getKey());
+                }
+            }
+        }
+        for (String victim : victims) {
+            Files.deleteIfExists(file(victim));
+        }
+    }
+
+    private void render(Path file, Consumer<OutputStream> renderer) throws IOException {
+        Path temp = Files.createTempFile(directory, TEMP_PREFIX, ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                renderer.accept(out);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void evict(String key) {
+        synchronized (this) {
+            byte[] removed = memory.remove(key);
+            if (removed != null) {
+                memoryBytes -= removed.length;
+            }
+            DiskEntry stored = disk.remove(key);
+            if (stored != null) {
+                diskBytes -= stored.size();
+            }
+        }
+        try {
+            Files.deleteIfExists(file(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized byte[] fromMemory(String key) {
+        byte[] bytes = memory.get(key);
+        if (bytes != null) {
+            disk.get(key);
+        }
+        return bytes;
+    }
+
+    private synchronized void toMemory(String key, byte[] bytes) {
+        byte[] replaced = memory.put(key, bytes);
+        memoryBytes += bytes.length - (replaced == null ? 0 : replaced.length);
+        Iterator<byte[]> eldest = memory.values().iterator();
+        while (memoryBytes > memoryMaxBytes && eldest.hasNext()) {
+            memoryBytes -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key + SUFFIX);
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record DiskEntry(UUID bookingId, long size) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.ridemate.app.pdf;
 
-import org.springframework.core.io.InputStreamResource;
+import com.ridemate.app.bookings.entity.Booking;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -8,8 +9,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
 import java.util.UUID;
 
 @RestController
@@ -23,8 +25,13 @@ public class PdfController {
     }
 
     @GetMapping("/download/{bookingId}")
-    public ResponseEntity<InputStreamResource> downloadPdf(@PathVariable UUID bookingId) {
-        ByteArrayInputStream bis = pdfService.createPdf(bookingId);
+    public ResponseEntity<StreamingResponseBody> downloadPdf(@PathVariable UUID bookingId, WebRequest request) {
+        Booking booking = pdfService.getBooking(bookingId);
+        String contentHash = pdfService.contentHash(booking);
+        String eTag = "\"" + contentHash + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
 
         HttpHeaders headers = new HttpHeaders();
         headers.add("Content-Disposition", "attachment; filename=booking-" + bookingId + ".pdf");
@@ -33,6 +40,8 @@ public class PdfController {
                 .ok()
                 .headers(headers)
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(new InputStreamResource(bis));
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(out -> pdfService.streamPdf(booking, contentHash, out));
     }
 }
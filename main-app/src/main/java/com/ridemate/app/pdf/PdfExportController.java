@@ -0,0 +1,59 @@
+package com.ridemate.app.pdf;
+
+import com.ridemate.app.pdf.dto.PdfExportJobResponse;
+import com.ridemate.app.pdf.dto.PdfExportRequest;
+import com.ridemate.app.security.CustomUserDetails;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/pdf/exports")
+public class PdfExportController {
+
+    private final PdfExportService pdfExportService;
+
+    public PdfExportController(PdfExportService pdfExportService) {
+        this.pdfExportService = pdfExportService;
+    }
+
+    @PostMapping
+    public ResponseEntity<PdfExportJobResponse> createExport(@AuthenticationPrincipal CustomUserDetails currentUser,
+                                                             @RequestBody(required = false) PdfExportRequest request) {
+        PdfExportJob job = pdfExportService.submit(currentUser, request == null ? null : request.getBookingIds());
+        return ResponseEntity.accepted().body(new PdfExportJobResponse(job));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<PdfExportJobResponse> getExport(@AuthenticationPrincipal CustomUserDetails currentUser,
+                                                          @PathVariable UUID jobId) {
+        return ResponseEntity.ok(new PdfExportJobResponse(pdfExportService.getJob(currentUser, jobId)));
+    }
+
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<StreamingResponseBody> downloadExport(@AuthenticationPrincipal CustomUserDetails currentUser,
+                                                                @PathVariable UUID jobId) {
+        Path file = pdfExportService.getExport(currentUser, jobId);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Content-Disposition", "attachment; filename=bookings-" + jobId + ".zip");
+
+        return ResponseEntity
+                .ok()
+                .headers(headers)
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(out -> Files.copy(file, out));
+    }
+}
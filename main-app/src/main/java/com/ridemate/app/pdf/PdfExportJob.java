@@ -0,0 +1,90 @@
+package com.ridemate.app.pdf;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PdfExportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final UUID ownerId;
+    private final int total;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private volatile PdfExportStatus status = PdfExportStatus.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    private volatile Path file;
+    private volatile String error;
+
+    public PdfExportJob(UUID ownerId, int total) {
+        this.ownerId = ownerId;
+        this.total = total;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public PdfExportStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    void started() {
+        status = PdfExportStatus.RUNNING;
+    }
+
+    void rendered() {
+        completed.incrementAndGet();
+    }
+
+    void renderFailed() {
+        failed.incrementAndGet();
+    }
+
+    void finished(Path file) {
+        this.file = file;
+        this.finishedAt = LocalDateTime.now();
+        this.status = PdfExportStatus.COMPLETED;
+    }
+
+    void failed(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = PdfExportStatus.FAILED;
+    }
+}
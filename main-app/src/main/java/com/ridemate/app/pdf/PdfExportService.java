@@ -0,0 +1,231 @@
+package com.ridemate.app.pdf;
+
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.bookings.repository.BookingRepository;
+import com.ridemate.app.exceptions.AccessDeniedException;
+import com.ridemate.app.exceptions.BadRequestException;
+import com.ridemate.app.exceptions.ConflictException;
+import com.ridemate.app.exceptions.ResourceNotFoundException;
+import com.ridemate.app.security.CustomUserDetails;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Service
+public class PdfExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfExportService.class);
+
+    private final PdfService pdfService;
+    private final BookingRepository bookingRepository;
+    private final Path directory;
+    private final int maxBookings;
+    private final int workersPerJob;
+    private final long retentionMillis;
+
+    private final ExecutorService renderPool;
+    private final ThreadPoolExecutor jobPool;
+    private final Map<UUID, PdfExportJob> jobs = new ConcurrentHashMap<>();
+
+    public PdfExportService(PdfService pdfService, BookingRepository bookingRepository,
+                            @Value("${ridemate.pdf.export.dir:${java.io.tmpdir}/ridemate-pdf-exports}") Path directory,
+                            @Value("${ridemate.pdf.export.render-workers:4}") int renderWorkers,
+                            @Value("${ridemate.pdf.export.workers-per-job:2}") int workersPerJob,
+                            @Value("${ridemate.pdf.export.max-running-jobs:2}") int maxRunningJobs,
+                            @Value("${ridemate.pdf.export.max-queued-jobs:50}") int maxQueuedJobs,
+                            @Value("${ridemate.pdf.export.max-bookings:1000}") int maxBookings,
+                            @Value("${ridemate.pdf.export.retention-ms:3600000}") long retentionMillis) {
+        this.pdfService = pdfService;
+        this.bookingRepository = bookingRepository;
+        this.directory = directory;
+        this.maxBookings = maxBookings;
+        this.workersPerJob = Math.max(1, Math.min(workersPerJob, renderWorkers));
+        this.retentionMillis = retentionMillis;
+        this.renderPool = Executors.newFixedThreadPool(renderWorkers, threads("pdf-render-"));
+        this.jobPool = new ThreadPoolExecutor(maxRunningJobs, maxRunningJobs, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs), threads("pdf-export-"));
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public PdfExportJob submit(CustomUserDetails currentUser, List<UUID> bookingIds) {
+        User user = currentUser.getUser();
+        if (user.getRole() != UserRole.DRIVER && user.getRole() != UserRole.ADMIN) {
+            throw new AccessDeniedException("Only drivers and admins can export bookings");
+        }
+        List<Booking> bookings = bookingIds == null || bookingIds.isEmpty()
+                ? bookingRepository.findByRideDriverId(user.getId())
+                : findBookings(user, bookingIds);
+        if (bookings.isEmpty()) {
+            throw new BadRequestException("No bookings to export");
+        }
+        if (bookings.size() > maxBookings) {
+            throw new BadRequestException("Cannot export more than " + maxBookings + " bookings at once");
+        }
+
+        PdfExportJob job = new PdfExportJob(user.getId(), bookings.size());
+        jobs.put(job.getId(), job);
+        try {
+            jobPool.execute(() -> run(job, bookings));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ConflictException("Too many export jobs in progress, try again later");
+        }
+        return job;
+    }
+
+    public PdfExportJob getJob(CustomUserDetails currentUser, UUID jobId) {
+        PdfExportJob job = jobs.get(jobId);
+        if (job == null || !job.getOwnerId().equals(currentUser.getUser().getId())) {
+            throw new ResourceNotFoundException("Export job not found");
+        }
+        return job;
+    }
+
+    public Path getExport(CustomUserDetails currentUser, UUID jobId) {
+        PdfExportJob job = getJob(currentUser, jobId);
+        if (job.getStatus() != PdfExportStatus.COMPLETED) {
+            throw new ConflictException("Export is not ready");
+        }
+        return job.getFile();
+    }
+
+    @Scheduled(fixedDelayString = "${ridemate.pdf.export.cleanup-interval-ms:600000}")
+    public void removeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retentionMillis, ChronoUnit.MILLIS);
+        Iterator<PdfExportJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            PdfExportJob job = iterator.next();
+            if (job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff)) {
+                iterator.remove();
+                deleteQuietly(job.getFile());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobPool.shutdownNow();
+        renderPool.shutdownNow();
+    }
+
+    private List<Booking> findBookings(User user, Collection<UUID> bookingIds) {
+        LinkedHashSet<UUID> ids = new LinkedHashSet<>(bookingIds);
+        if (ids.size() > maxBookings) {
+            throw new BadRequestException("Cannot export more than " + maxBookings + " bookings at once");
+        }
+        List<Booking> bookings = bookingRepository.findByIdIn(ids);
+        if (bookings.size() != ids.size()) {
+            throw new ResourceNotFoundException("Booking not found");
+        }
+        if (user.getRole() != UserRole.ADMIN && bookings.stream()
+                .anyMatch(booking -> !booking.getRide().getDriver().getId().equals(user.getId()))) {
+            throw new AccessDeniedException("You can only export bookings for your own rides");
+        }
+        return bookings;
+    }
+
+    private void run(PdfExportJob job, List<Booking> bookings) {
+        job.started();
+        Path file = directory.resolve(job.getId() + ".zip");
+        ExecutorCompletionService<RenderedPdf> completion = new ExecutorCompletionService<>(renderPool);
+        Iterator<Booking> pending = bookings.iterator();
+        int inFlight = 0;
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            while (pending.hasNext() || inFlight > 0) {
+                while (inFlight < workersPerJob && pending.hasNext()) {
+                    Booking booking = pending.next();
+                    completion.submit(() -> render(booking));
+                    inFlight++;
+                }
+                Future<RenderedPdf> done = completion.take();
+                inFlight--;
+                try {
+                    RenderedPdf pdf = done.get();
+                    zip.putNextEntry(new ZipEntry("booking-" + pdf.bookingId() + ".pdf"));
+                    zip.write(pdf.content());
+                    zip.closeEntry();
+                    job.rendered();
+                } catch (ExecutionException e) {
+                    logger.warn("Failed to render booking PDF for export {}", job.getId(), e.getCause());
+                    job.renderFailed();
+                }
+            }
+            zip.finish();
+            job.finished(file);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.failed("Export interrupted");
+            deleteQuietly(file);
+        } catch (IOException | RuntimeException e) {
+            logger.error("PDF export {} failed", job.getId(), e);
+            job.failed("Export failed");
+            deleteQuietly(file);
+        }
+    }
+
+    private RenderedPdf render(Booking booking) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        pdfService.writePdf(booking, out);
+        return new RenderedPdf(booking.getId(), out.toByteArray());
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete export file {}", file, e);
+        }
+    }
+
+    private static ThreadFactory threads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record RenderedPdf(UUID bookingId, byte[] content) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.ridemate.app.pdf;
+
+public enum PdfExportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
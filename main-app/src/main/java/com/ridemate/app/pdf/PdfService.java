@@ -1,43 +1,65 @@
 package com.ridemate.app.pdf;
 
-import com.itextpdf.kernel.pdf.PdfDocument;
-import com.itextpdf.kernel.pdf.PdfWriter;
-import com.itextpdf.layout.Document;
-import com.itextpdf.layout.element.Paragraph;
 import com.ridemate.app.bookings.entity.Booking;
 import com.ridemate.app.bookings.repository.BookingRepository;
+import com.ridemate.app.exceptions.ResourceNotFoundException;
+import com.ridemate.app.monitoring.Recorded;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 @Service
 public class PdfService {
 
+    private static final String TEMPLATE_VERSION = "2";
+
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private PdfCache pdfCache;
+
+    private final BookingPdfTemplate template = new BookingPdfTemplate();
+
+    @Recorded("pdf.create")
     public ByteArrayInputStream createPdf(java.util.UUID bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new RuntimeException("Booking not found"));
         ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writePdf(getBooking(bookingId), out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
 
-        PdfWriter writer = new PdfWriter(out);
-        PdfDocument pdf = new PdfDocument(writer);
-        Document document = new Document(pdf);
+    public Booking getBooking(java.util.UUID bookingId) {
+        return bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+    }
 
-        document.add(new Paragraph("Booking Confirmation"));
-        document.add(new Paragraph("Booking ID: " + booking.getId()));
-        document.add(new Paragraph("Booking Date: " + booking.getCreatedAt()));
-        document.add(new Paragraph("Booking Status: " + booking.getStatus()));
-        document.add(new Paragraph("Booking Price: " + booking.getRide().getPrice()));
-        document.add(new Paragraph("Booking Driver: " + booking.getRide().getDriver().getUsername()));
-        document.add(new Paragraph("Thank you for choosing RideMate!"));
+    public String contentHash(Booking booking) {
+        String content = String.join("|", TEMPLATE_VERSION, String.valueOf(booking.getId()),
+                String.valueOf(booking.getCreatedAt()), String.valueOf(booking.getStatus()),
+                String.valueOf(booking.getRide().getPrice()), booking.getRide().getDriver().getUsername());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-        document.close();
+    @Recorded("pdf.stream")
+    public void streamPdf(Booking booking, String contentHash, OutputStream out) throws IOException {
+        pdfCache.write(contentHash, booking.getId(), out, target -> writePdf(booking, target));
+    }
 
-        return new ByteArrayInputStream(out.toByteArray());
+    public void writePdf(Booking booking, OutputStream out) {
+        template.write(booking, out);
     }
 }
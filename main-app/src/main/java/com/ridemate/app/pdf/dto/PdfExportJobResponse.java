@@ -0,0 +1,35 @@
+package com.ridemate.app.pdf.dto;
+
+import com.ridemate.app.pdf.PdfExportJob;
+import com.ridemate.app.pdf.PdfExportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PdfExportJobResponse {
+    private UUID id;
+    private PdfExportStatus status;
+    private int total;
+    private int completed;
+    private int failed;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private String error;
+
+    public PdfExportJobResponse(PdfExportJob job) {
+        this.id = job.getId();
+        this.status = job.getStatus();
+        this.total = job.getTotal();
+        this.completed = job.getCompleted();
+        this.failed = job.getFailed();
+        this.createdAt = job.getCreatedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.error = job.getError();
+    }
+}
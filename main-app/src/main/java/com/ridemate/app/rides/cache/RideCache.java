@@ -0,0 +1,74 @@
+package com.ridemate.app.rides.cache;
+
+import com.ridemate.app.common.TransactionCallbacks;
+import com.ridemate.app.rides.entity.Ride;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class RideCache {
+
+    public static final String RIDES = "ride";
+
+    private final Cache rides;
+    private final Map<UUID, Object> loading = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public RideCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.rides = cacheManager.getCache(RIDES);
+        FunctionCounter.builder("ridemate.cache.gets", hits, AtomicLong::get)
+                .tag("cache", RIDES).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("ridemate.cache.gets", misses, AtomicLong::get)
+                .tag("cache", RIDES).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("ridemate.cache.evictions", evictions, AtomicLong::get)
+                .tag("cache", RIDES).register(meterRegistry);
+    }
+
+    public Ride getRide(UUID id, Supplier<Ride> loader) {
+        Ride cached = rides.get(id, Ride.class);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        Object token = new Object();
+        loading.put(id, token);
+        Ride loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            loading.remove(id, token);
+            throw e;
+        }
+        // an invalidation of this ride while it was loading removes the token, so the result is not cached
+        loading.computeIfPresent(id, (key, current) -> {
+            if (current != token) {
+                return current;
+            }
+            rides.put(id, loaded);
+            return null;
+        });
+        return loaded;
+    }
+
+    public void rideChanged(UUID rideId) {
+        TransactionCallbacks.afterCommit(() -> {
+            loading.remove(rideId);
+            if (rides.evictIfPresent(rideId)) {
+                evictions.incrementAndGet();
+            }
+        });
+    }
+}
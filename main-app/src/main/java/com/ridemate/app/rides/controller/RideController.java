@@ -1,15 +1,19 @@
 package com.ridemate.app.rides.controller;
 
 import com.ridemate.app.rides.dto.RideDto;
+import com.ridemate.app.rides.dto.RidePageResponse;
 import com.ridemate.app.rides.dto.RideResponse;
+import com.ridemate.app.rides.dto.RideSearchCriteria;
 import com.ridemate.app.rides.service.RideService;
 import com.ridemate.app.security.CustomUserDetails;
 import org.springframework.beans.factory.annotation.Autowired;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -29,6 +33,35 @@ public class RideController {
         return ResponseEntity.ok(rides);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<RideResponse>> searchRides(@AuthenticationPrincipal CustomUserDetails currentUser,
+            @RequestParam(required = false) String origin,
+            @RequestParam(required = false) String destination,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Integer minFreeSeats) {
+        List<RideResponse> rides = rideService.searchRides(currentUser,
+                new RideSearchCriteria(origin, destination, from, to, maxPrice, minFreeSeats)).stream()
+                .map(RideResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(rides);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<RidePageResponse> getRidesPage(@AuthenticationPrincipal CustomUserDetails currentUser,
+            @RequestParam(required = false) String origin,
+            @RequestParam(required = false) String destination,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Integer minFreeSeats,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(rideService.getRidesPage(currentUser,
+                new RideSearchCriteria(origin, destination, from, to, maxPrice, minFreeSeats), cursor, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<RideResponse> getRide(@PathVariable UUID id) {
         return ResponseEntity.ok(new RideResponse(rideService.getRideById(id)));
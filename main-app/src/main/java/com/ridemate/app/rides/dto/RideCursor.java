@@ -0,0 +1,39 @@
+package com.ridemate.app.rides.dto;
+
+import com.ridemate.app.exceptions.BadRequestException;
+import com.ridemate.app.rides.entity.Ride;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class RideCursor {
+    private LocalDateTime dateTime;
+    private UUID id;
+
+    public static RideCursor of(Ride ride) {
+        return new RideCursor(ride.getDateTime(), ride.getId());
+    }
+
+    public static RideCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new RideCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = dateTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
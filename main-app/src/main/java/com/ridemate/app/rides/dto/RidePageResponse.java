@@ -0,0 +1,15 @@
+package com.ridemate.app.rides.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RidePageResponse {
+    private List<RideResponse> items;
+    private String nextCursor;
+}
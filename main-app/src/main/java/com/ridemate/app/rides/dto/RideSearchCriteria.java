@@ -0,0 +1,19 @@
+package com.ridemate.app.rides.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RideSearchCriteria {
+    private String origin;
+    private String destination;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Double maxPrice;
+    private Integer minFreeSeats;
+}
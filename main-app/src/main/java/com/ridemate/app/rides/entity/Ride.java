@@ -12,7 +12,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "rides")
+@Table(name = "rides", indexes = {
+        @Index(name = "idx_rides_status_departure", columnList = "status, date_time, id"),
+        @Index(name = "idx_rides_route_departure", columnList = "origin, destination, date_time, id")
+})
 @Data
 public class Ride {
     @Id
@@ -0,0 +1,10 @@
+package com.ridemate.app.rides.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface RideDeparture {
+    UUID getId();
+
+    LocalDateTime getDateTime();
+}
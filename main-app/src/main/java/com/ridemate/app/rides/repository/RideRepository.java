@@ -2,16 +2,48 @@ package com.ridemate.app.rides.repository;
 
 import com.ridemate.app.rides.RideStatus;
 import com.ridemate.app.rides.entity.Ride;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface RideRepository extends JpaRepository<Ride, UUID> {
+public interface RideRepository extends JpaRepository<Ride, UUID>, JpaSpecificationExecutor<Ride> {
+    @EntityGraph(attributePaths = "driver")
     List<Ride> findByStatusAndDateTimeAfter(RideStatus status, LocalDateTime dateTime);
 
-    List<Ride> findAllByDateTimeBeforeAndStatusNot(LocalDateTime dateTime, RideStatus status);
+    @Query("SELECT r.id FROM Ride r WHERE r.dateTime < :now AND r.status <> :completed ORDER BY r.dateTime, r.id")
+    List<UUID> findExpiredRideIds(LocalDateTime now, RideStatus completed, Limit limit);
+
+    @Query("SELECT r.id AS id, r.dateTime AS dateTime FROM Ride r WHERE r.dateTime >= :now AND r.status <> :completed")
+    List<RideDeparture> findUpcomingDepartures(LocalDateTime now, RideStatus completed);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Ride r SET r.status = :completed " +
+            "WHERE r.id IN :ids AND r.dateTime < :now AND r.status <> :completed")
+    int completeRides(Collection<UUID> ids, LocalDateTime now, RideStatus completed);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Ride r SET r.seatsTaken = r.seatsTaken + 1, " +
+            "r.status = CASE WHEN r.seatsTaken + 1 >= r.seatsAvailable THEN :booked ELSE r.status END " +
+            "WHERE r.id = :id AND r.status = :active AND r.dateTime > :now AND r.seatsTaken < r.seatsAvailable")
+    int reserveSeat(UUID id, RideStatus active, RideStatus booked, LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Ride r SET r.seatsTaken = r.seatsTaken - 1, " +
+            "r.status = CASE WHEN r.status = :booked THEN :active ELSE r.status END " +
+            "WHERE r.id = :id AND r.seatsTaken > 0")
+    int releaseSeat(UUID id, RideStatus booked, RideStatus active);
 }
@@ -0,0 +1,73 @@
+package com.ridemate.app.rides.repository;
+
+import com.ridemate.app.bookings.BookingStatus;
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.dto.RideCursor;
+import com.ridemate.app.rides.dto.RideSearchCriteria;
+import com.ridemate.app.rides.entity.Ride;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class RideSpecifications {
+
+    public static final Sort KEYSET_ORDER = Sort.by("dateTime", "id");
+
+    private RideSpecifications() {
+    }
+
+    public static Specification<Ride> openRides(RideSearchCriteria criteria, LocalDateTime now) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("status"), RideStatus.ACTIVE));
+            LocalDateTime from = criteria.getFrom() == null || criteria.getFrom().isBefore(now) ? now
+                    : criteria.getFrom();
+            predicates.add(cb.greaterThan(root.get("dateTime"), from));
+            if (criteria.getTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dateTime"), criteria.getTo()));
+            }
+            if (criteria.getOrigin() != null && !criteria.getOrigin().isBlank()) {
+                predicates.add(cb.equal(root.get("origin"), criteria.getOrigin().trim()));
+            }
+            if (criteria.getDestination() != null && !criteria.getDestination().isBlank()) {
+                predicates.add(cb.equal(root.get("destination"), criteria.getDestination().trim()));
+            }
+            if (criteria.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), criteria.getMaxPrice()));
+            }
+            if (criteria.getMinFreeSeats() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(
+                        cb.diff(root.<Integer>get("seatsAvailable"), root.<Integer>get("seatsTaken")),
+                        criteria.getMinFreeSeats()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Ride> after(RideCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("dateTime"), cursor.getDateTime()),
+                cb.and(cb.equal(root.get("dateTime"), cursor.getDateTime()),
+                        cb.greaterThan(root.get("id"), cursor.getId())));
+    }
+
+    public static Specification<Ride> notBookedBy(UUID passengerId) {
+        return (root, query, cb) -> {
+            Subquery<Booking> booking = query.subquery(Booking.class);
+            Root<Booking> b = booking.from(Booking.class);
+            booking.select(b).where(
+                    cb.equal(b.get("ride"), root),
+                    cb.equal(b.get("passenger").get("id"), passengerId),
+                    b.get("status").in(BookingStatus.PENDING, BookingStatus.APPROVED));
+            return cb.not(cb.exists(booking));
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package com.ridemate.app.rides.scheduler;
+
+import com.ridemate.app.common.TransactionCallbacks;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.repository.RideDeparture;
+import com.ridemate.app.rides.repository.RideRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RideLifecycleScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RideLifecycleScheduler.class);
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final RideRepository rideRepository;
+    private final RideScheduler rideScheduler;
+    private final long tickMillis;
+    private final TimingWheel<UUID> wheel;
+
+    private ScheduledExecutorService ticker;
+
+    public RideLifecycleScheduler(RideRepository rideRepository, RideScheduler rideScheduler,
+            @Value("${ridemate.rides.lifecycle.tick-ms:1000}") long tickMillis) {
+        this.rideRepository = rideRepository;
+        this.rideScheduler = rideScheduler;
+        this.tickMillis = tickMillis;
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<RideDeparture> departures = rideRepository.findUpcomingDepartures(LocalDateTime.now(),
+                RideStatus.COMPLETED);
+        synchronized (this) {
+            for (RideDeparture departure : departures) {
+                wheel.schedule(departure.getId(), toMillis(departure.getDateTime()));
+            }
+        }
+        logger.info("Scheduled {} upcoming ride departures", departures.size());
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ride-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> tick(System.currentTimeMillis()), tickMillis, tickMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    public void rideScheduled(UUID rideId, LocalDateTime departure) {
+        long deadline = toMillis(departure);
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                wheel.schedule(rideId, deadline);
+            }
+        });
+    }
+
+    public void rideCancelled(UUID rideId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                wheel.cancel(rideId);
+            }
+        });
+    }
+
+    public synchronized int pending() {
+        return wheel.size();
+    }
+
+    int tick(long nowMillis) {
+        List<UUID> due;
+        synchronized (this) {
+            due = wheel.advance(nowMillis);
+        }
+        if (due.isEmpty()) {
+            return 0;
+        }
+        try {
+            return rideScheduler.completeRides(due, LocalDateTime.now());
+        } catch (Exception e) {
+            // the reconciliation sweep picks these rides up later
+            logger.warn("Failed to complete {} departed rides: {}", due.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,28 +1,67 @@
 package com.ridemate.app.rides.scheduler;
 
 import com.ridemate.app.rides.RideStatus;
-import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.rides.cache.RideCache;
 import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.rides.search.RideSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 public class RideScheduler {
 
+    private static final Logger logger = LoggerFactory.getLogger(RideScheduler.class);
+
     @Autowired
     private RideRepository rideRepository;
 
-    @Scheduled(fixedRate = 60000)
+    @Autowired
+    private RideSearchIndex rideSearchIndex;
+
+    @Autowired
+    private RideCache rideCache;
+
+    @Value("${ridemate.rides.completion-chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Scheduled(fixedDelayString = "${ridemate.rides.reconcile-interval-ms:900000}", initialDelay = 60000)
     public void updateRideStatuses() {
-        List<Ride> ridesToUpdate = rideRepository.findAllByDateTimeBeforeAndStatusNot(LocalDateTime.now(),
-                RideStatus.COMPLETED);
-        for (Ride ride : ridesToUpdate) {
-            ride.setStatus(RideStatus.COMPLETED);
-            rideRepository.save(ride);
+        int completed = completeExpiredRides();
+        if (completed > 0) {
+            logger.info("Reconciliation sweep completed {} expired rides", completed);
+        }
+    }
+
+    public int completeExpiredRides() {
+        LocalDateTime now = LocalDateTime.now();
+        int completed = 0;
+        List<UUID> ids;
+        do {
+            ids = rideRepository.findExpiredRideIds(now, RideStatus.COMPLETED, Limit.of(chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            completed += completeRides(ids, now);
+        } while (ids.size() == chunkSize);
+        return completed;
+    }
+
+    public int completeRides(Collection<UUID> ids, LocalDateTime now) {
+        int completed = rideRepository.completeRides(ids, now, RideStatus.COMPLETED);
+        for (UUID id : ids) {
+            rideSearchIndex.remove(id);
+            rideCache.rideChanged(id);
         }
+        return completed;
     }
 }
@@ -0,0 +1,128 @@
+package com.ridemate.app.rides.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelTicks;
+    private final List<List<List<Entry<K>>>> levels;
+    private final TreeMap<Long, List<Entry<K>>> overflow = new TreeMap<>();
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private final List<K> due = new ArrayList<>();
+
+    private long current;
+
+    public TimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelTicks = new long[levelCount];
+        this.levels = new ArrayList<>(levelCount);
+        long tick = tickMillis;
+        for (int level = 0; level < levelCount; level++) {
+            levelTicks[level] = tick;
+            List<List<Entry<K>>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new ArrayList<>());
+            }
+            levels.add(slots);
+            tick = Math.multiplyExact(tick, wheelSize);
+        }
+        this.current = startMillis - Math.floorMod(startMillis, tickMillis);
+    }
+
+    public void schedule(K key, long deadlineMillis) {
+        deadlines.put(key, deadlineMillis);
+        insert(new Entry<>(key, deadlineMillis));
+    }
+
+    public void cancel(K key) {
+        deadlines.remove(key);
+    }
+
+    public boolean contains(K key) {
+        return deadlines.containsKey(key);
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    public List<K> advance(long nowMillis) {
+        while (current + tickMillis <= nowMillis) {
+            List<Entry<K>> slot = slot(0, current);
+            for (Entry<K> entry : slot) {
+                expire(entry);
+            }
+            slot.clear();
+            current += tickMillis;
+            cascade();
+        }
+        List<K> expired = new ArrayList<>(due);
+        due.clear();
+        return expired;
+    }
+
+    private void insert(Entry<K> entry) {
+        if (entry.deadline() < current) {
+            expire(entry);
+            return;
+        }
+        for (int level = 0; level < levelTicks.length; level++) {
+            long tick = levelTicks[level];
+            if (Math.floorDiv(entry.deadline(), tick) - Math.floorDiv(current, tick) < wheelSize) {
+                slot(level, entry.deadline()).add(entry);
+                return;
+            }
+        }
+        overflow.computeIfAbsent(entry.deadline(), deadline -> new ArrayList<>()).add(entry);
+    }
+
+    private void cascade() {
+        int top = levelTicks.length - 1;
+        if (Math.floorMod(current, levelTicks[top]) == 0) {
+            long horizon = (Math.floorDiv(current, levelTicks[top]) + wheelSize) * levelTicks[top];
+            while (!overflow.isEmpty() && overflow.firstKey() < horizon) {
+                overflow.pollFirstEntry().getValue().forEach(this::reinsert);
+            }
+        }
+        for (int level = top; level > 0; level--) {
+            if (Math.floorMod(current, levelTicks[level]) == 0) {
+                List<Entry<K>> slot = slot(level, current);
+                List<Entry<K>> entries = new ArrayList<>(slot);
+                slot.clear();
+                entries.forEach(this::reinsert);
+            }
+        }
+    }
+
+    private void reinsert(Entry<K> entry) {
+        if (isLive(entry)) {
+            insert(entry);
+        }
+    }
+
+    private void expire(Entry<K> entry) {
+        if (isLive(entry)) {
+            deadlines.remove(entry.key());
+            due.add(entry.key());
+        }
+    }
+
+    private boolean isLive(Entry<K> entry) {
+        Long deadline = deadlines.get(entry.key());
+        return deadline != null && deadline == entry.deadline();
+    }
+
+    private List<Entry<K>> slot(int level, long timeMillis) {
+        return levels.get(level).get((int) Math.floorMod(Math.floorDiv(timeMillis, levelTicks[level]), wheelSize));
+    }
+
+    private record Entry<K>(K key, long deadline) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.ridemate.app.rides.search;
+
+import java.util.UUID;
+
+final class ActiveBookingSet {
+
+    static final ActiveBookingSet EMPTY = new ActiveBookingSet(new long[0], new long[0], new int[0], 0);
+
+    private static final int MIN_CAPACITY = 4;
+
+    private final long[] most;
+    private final long[] least;
+    private final int[] counts;
+    private final int size;
+
+    private ActiveBookingSet(long[] most, long[] least, int[] counts, int size) {
+        this.most = most;
+        this.least = least;
+        this.counts = counts;
+        this.size = size;
+    }
+
+    boolean contains(UUID rideId) {
+        return size > 0 && counts[slot(rideId.getMostSignificantBits(), rideId.getLeastSignificantBits())] > 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    ActiveBookingSet plus(UUID rideId) {
+        return adjust(rideId, 1);
+    }
+
+    ActiveBookingSet minus(UUID rideId) {
+        return adjust(rideId, -1);
+    }
+
+    ActiveBookingSet without(UUID rideId) {
+        return contains(rideId) ? adjust(rideId, -count(rideId)) : this;
+    }
+
+    private int count(UUID rideId) {
+        return size == 0 ? 0 : counts[slot(rideId.getMostSignificantBits(), rideId.getLeastSignificantBits())];
+    }
+
+    private ActiveBookingSet adjust(UUID rideId, int delta) {
+        long msb = rideId.getMostSignificantBits();
+        long lsb = rideId.getLeastSignificantBits();
+        int current = count(rideId);
+        int updated = Math.max(0, current + delta);
+        if (updated == current) {
+            return this;
+        }
+        int newSize = size + (current == 0 ? 1 : 0) - (updated == 0 ? 1 : 0);
+        if (newSize == 0) {
+            return EMPTY;
+        }
+        ActiveBookingSet copy = empty(capacityFor(newSize));
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 && (most[i] != msb || least[i] != lsb)) {
+                copy.put(most[i], least[i], counts[i]);
+            }
+        }
+        if (updated > 0) {
+            copy.put(msb, lsb, updated);
+        }
+        return new ActiveBookingSet(copy.most, copy.least, copy.counts, newSize);
+    }
+
+    private void put(long msb, long lsb, int count) {
+        int slot = slot(msb, lsb);
+        most[slot] = msb;
+        least[slot] = lsb;
+        counts[slot] = count;
+    }
+
+    private int slot(long msb, long lsb) {
+        int mask = counts.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (counts[slot] > 0 && (most[slot] != msb || least[slot] != lsb)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static ActiveBookingSet empty(int capacity) {
+        return new ActiveBookingSet(new long[capacity], new long[capacity], new int[capacity], 0);
+    }
+
+    private static int capacityFor(int size) {
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(size * 2 - 1) << 1);
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,324 @@
+package com.ridemate.app.rides.search;
+
+import com.ridemate.app.bookings.BookingStatus;
+import com.ridemate.app.bookings.repository.ActiveBookingView;
+import com.ridemate.app.bookings.repository.BookingRepository;
+import com.ridemate.app.common.TransactionCallbacks;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.dto.RideSearchCriteria;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.users.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+@Component
+public class RideSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RideSearchIndex.class);
+
+    private static final Comparator<Ride> DEPARTURE_ORDER = Comparator.comparing(Ride::getDateTime)
+            .thenComparing(Ride::getId);
+
+    private final RideRepository rideRepository;
+    private final BookingRepository bookingRepository;
+
+    private final Map<UUID, Ride> rides = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> byOrigin = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> byDestination = new ConcurrentHashMap<>();
+    private final NavigableMap<LocalDateTime, Set<UUID>> byDepartureHour = new ConcurrentSkipListMap<>();
+    private final NavigableSet<Ride> byDeparture = new ConcurrentSkipListSet<>(DEPARTURE_ORDER);
+    private final Map<UUID, ActiveBookingSet> activeBookingsByPassenger = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> passengersByRide = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot = new Snapshot(0, List.of());
+
+    public RideSearchIndex(RideRepository rideRepository, BookingRepository bookingRepository) {
+        this.rideRepository = rideRepository;
+        this.bookingRepository = bookingRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Ride> open = rideRepository.findByStatusAndDateTimeAfter(RideStatus.ACTIVE, now).stream()
+                .map(RideSearchIndex::snapshot)
+                .toList();
+        List<ActiveBookingView> bookings = bookingRepository.findActiveBookings(BookingStatus.ACTIVE_STATUSES,
+                RideStatus.ACTIVE, now);
+        synchronized (this) {
+            rides.clear();
+            byOrigin.clear();
+            byDestination.clear();
+            byDepartureHour.clear();
+            byDeparture.clear();
+            activeBookingsByPassenger.clear();
+            passengersByRide.clear();
+            open.forEach(this::index);
+            for (ActiveBookingView booking : bookings) {
+                link(booking.getRideId(), booking.getPassengerId());
+            }
+            version.incrementAndGet();
+        }
+        logger.info("Ride search index loaded with {} open rides", rides.size());
+    }
+
+    public List<Ride> findOpenRides(UUID passengerId) {
+        List<Ride> open = openRides();
+        int first = firstDepartingAfter(open, LocalDateTime.now());
+        ActiveBookingSet booked = passengerId == null ? null : activeBookingsByPassenger.get(passengerId);
+        if (booked == null || booked.isEmpty()) {
+            return open.subList(first, open.size());
+        }
+        List<Ride> visible = new ArrayList<>(open.size() - first);
+        for (int i = first; i < open.size(); i++) {
+            Ride ride = open.get(i);
+            if (!booked.contains(ride.getId())) {
+                visible.add(ride);
+            }
+        }
+        return visible;
+    }
+
+    public List<Ride> search(RideSearchCriteria criteria, UUID passengerId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = criteria.getFrom() == null || criteria.getFrom().isBefore(now) ? now : criteria.getFrom();
+        String origin = normalize(criteria.getOrigin());
+        String destination = normalize(criteria.getDestination());
+
+        return candidates(origin, destination, criteria.getFrom() == null ? null : from, criteria.getTo()).stream()
+                .map(rides::get)
+                .filter(Objects::nonNull)
+                .filter(ride -> origin == null || origin.equals(normalize(ride.getOrigin())))
+                .filter(ride -> destination == null || destination.equals(normalize(ride.getDestination())))
+                .filter(ride -> ride.getDateTime().isAfter(from))
+                .filter(ride -> criteria.getTo() == null || !ride.getDateTime().isAfter(criteria.getTo()))
+                .filter(ride -> criteria.getMaxPrice() == null || ride.getPrice() <= criteria.getMaxPrice())
+                .filter(ride -> criteria.getMinFreeSeats() == null
+                        || ride.getSeatsAvailable() - ride.getSeatsTaken() >= criteria.getMinFreeSeats())
+                .filter(ride -> passengerId == null || !hasActiveBooking(ride.getId(), passengerId))
+                .sorted(DEPARTURE_ORDER)
+                .collect(Collectors.toList());
+    }
+
+    public boolean hasActiveBooking(UUID rideId, UUID passengerId) {
+        ActiveBookingSet booked = activeBookingsByPassenger.get(passengerId);
+        return booked != null && booked.contains(rideId);
+    }
+
+    public int size() {
+        return rides.size();
+    }
+
+    public void put(Ride ride) {
+        Ride copy = snapshot(ride);
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                unindex(copy.getId());
+                if (isOpen(copy)) {
+                    index(copy);
+                }
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    public void remove(UUID rideId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                unindex(rideId);
+                Set<UUID> passengers = passengersByRide.remove(rideId);
+                if (passengers != null) {
+                    passengers.forEach(passengerId -> updateActiveBookings(passengerId, set -> set.without(rideId)));
+                }
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    public void addPassenger(UUID rideId, UUID passengerId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                link(rideId, passengerId);
+            }
+        });
+    }
+
+    public void removePassenger(UUID rideId, UUID passengerId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                ActiveBookingSet remaining = updateActiveBookings(passengerId, set -> set.minus(rideId));
+                if (!remaining.contains(rideId)) {
+                    removeLink(passengersByRide, rideId, passengerId);
+                }
+            }
+        });
+    }
+
+    private List<Ride> openRides() {
+        Snapshot current = snapshot;
+        if (current.version() == version.get()) {
+            return current.rides();
+        }
+        synchronized (this) {
+            long latest = version.get();
+            if (snapshot.version() != latest) {
+                snapshot = new Snapshot(latest, List.copyOf(byDeparture));
+            }
+            return snapshot.rides();
+        }
+    }
+
+    private static int firstDepartingAfter(List<Ride> rides, LocalDateTime now) {
+        int low = 0;
+        int high = rides.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rides.get(mid).getDateTime().isAfter(now)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private void link(UUID rideId, UUID passengerId) {
+        updateActiveBookings(passengerId, set -> set.plus(rideId));
+        passengersByRide.computeIfAbsent(rideId, id -> ConcurrentHashMap.newKeySet()).add(passengerId);
+    }
+
+    private ActiveBookingSet updateActiveBookings(UUID passengerId, UnaryOperator<ActiveBookingSet> update) {
+        ActiveBookingSet updated = activeBookingsByPassenger.compute(passengerId, (id, current) -> {
+            ActiveBookingSet next = update.apply(current == null ? ActiveBookingSet.EMPTY : current);
+            return next.isEmpty() ? null : next;
+        });
+        return updated == null ? ActiveBookingSet.EMPTY : updated;
+    }
+
+    private Collection<UUID> candidates(String origin, String destination, LocalDateTime from, LocalDateTime to) {
+        List<Collection<UUID>> postings = new ArrayList<>();
+        if (origin != null) {
+            postings.add(byOrigin.getOrDefault(origin, Set.of()));
+        }
+        if (destination != null) {
+            postings.add(byDestination.getOrDefault(destination, Set.of()));
+        }
+        if (from != null || to != null) {
+            NavigableMap<LocalDateTime, Set<UUID>> buckets = byDepartureHour;
+            if (from != null) {
+                buckets = buckets.tailMap(hourOf(from), true);
+            }
+            if (to != null) {
+                buckets = buckets.headMap(hourOf(to), true);
+            }
+            List<UUID> inRange = new ArrayList<>();
+            buckets.values().forEach(inRange::addAll);
+            postings.add(inRange);
+        }
+        return postings.stream()
+                .min(Comparator.comparingInt(Collection::size))
+                .orElseGet(rides::keySet);
+    }
+
+    private void index(Ride ride) {
+        UUID id = ride.getId();
+        rides.put(id, ride);
+        byDeparture.add(ride);
+        addLink(byOrigin, normalize(ride.getOrigin()), id);
+        addLink(byDestination, normalize(ride.getDestination()), id);
+        addLink(byDepartureHour, hourOf(ride.getDateTime()), id);
+    }
+
+    private void unindex(UUID rideId) {
+        Ride previous = rides.remove(rideId);
+        if (previous == null) {
+            return;
+        }
+        byDeparture.remove(previous);
+        removeLink(byOrigin, normalize(previous.getOrigin()), rideId);
+        removeLink(byDestination, normalize(previous.getDestination()), rideId);
+        removeLink(byDepartureHour, hourOf(previous.getDateTime()), rideId);
+    }
+
+    private static <K> void addLink(Map<K, Set<UUID>> links, K key, UUID id) {
+        if (key != null) {
+            links.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private static <K> void removeLink(Map<K, Set<UUID>> links, K key, UUID id) {
+        if (key == null) {
+            return;
+        }
+        links.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static boolean isOpen(Ride ride) {
+        return ride.getStatus() == RideStatus.ACTIVE && ride.getDateTime().isAfter(LocalDateTime.now());
+    }
+
+    private static Ride snapshot(Ride ride) {
+        Ride copy = new Ride();
+        copy.setId(ride.getId());
+        copy.setDriver(snapshot(ride.getDriver()));
+        copy.setOrigin(ride.getOrigin());
+        copy.setDestination(ride.getDestination());
+        copy.setDateTime(ride.getDateTime());
+        copy.setPrice(ride.getPrice());
+        copy.setSeatsAvailable(ride.getSeatsAvailable());
+        copy.setSeatsTaken(ride.getSeatsTaken());
+        copy.setStatus(ride.getStatus());
+        return copy;
+    }
+
+    private static User snapshot(User user) {
+        if (user == null) {
+            return null;
+        }
+        User copy = new User(user.getId(), user.getUsername(), user.getEmail(), null);
+        copy.setRole(user.getRole());
+        copy.setRating(user.getRating());
+        copy.setProfileImageUrl(user.getProfileImageUrl());
+        copy.setCreatedAt(user.getCreatedAt());
+        return copy;
+    }
+
+    private record Snapshot(long version, List<Ride> rides) {
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static LocalDateTime hourOf(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(ChronoUnit.HOURS);
+    }
+}
@@ -1,31 +1,43 @@
 package com.ridemate.app.rides.service;
 
-import com.ridemate.app.bookings.BookingStatus;
 import com.ridemate.app.bookings.entity.Booking;
-import com.ridemate.app.bookings.repository.BookingRepository;
+import com.ridemate.app.bookings.service.BookingService;
 import com.ridemate.app.exceptions.AccessDeniedException;
-import com.ridemate.app.exceptions.ConflictException;
 import com.ridemate.app.exceptions.ResourceNotFoundException;
 import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.cache.RideCache;
+import com.ridemate.app.rides.dto.RideCursor;
 import com.ridemate.app.rides.dto.RideDto;
+import com.ridemate.app.rides.dto.RidePageResponse;
+import com.ridemate.app.rides.dto.RideResponse;
+import com.ridemate.app.rides.dto.RideSearchCriteria;
 import com.ridemate.app.rides.entity.Ride;
 import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.rides.repository.RideSpecifications;
+import com.ridemate.app.rides.scheduler.RideLifecycleScheduler;
+import com.ridemate.app.rides.search.RideSearchIndex;
 import com.ridemate.app.security.CustomUserDetails;
 import com.ridemate.app.users.entity.User;
 import com.ridemate.app.users.service.UserService;
-import com.ridemate.app.client.audit.AuditClient;
+import com.ridemate.app.client.audit.AuditPublisher;
 import com.ridemate.app.client.audit.dto.CreateAuditEntryDTO;
+import com.ridemate.app.monitoring.Recorded;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class RideService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private RideRepository rideRepository;
 
@@ -33,31 +45,51 @@ public class RideService {
     private UserService userService;
 
     @Autowired
-    private BookingRepository bookingRepository;
+    private AuditPublisher auditPublisher;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private RideSearchIndex rideSearchIndex;
+
+    @Autowired
+    private RideCache rideCache;
 
     @Autowired
-    private AuditClient auditClient;
+    private RideLifecycleScheduler rideLifecycleScheduler;
 
-    @Cacheable(value = "rides", key = "#currentUser.username")
+    @Recorded("rides.getAll")
     public List<Ride> getAllRides(CustomUserDetails currentUser) {
-        User user = userService.getUser(currentUser);
-        List<Ride> allRides = rideRepository.findByStatusAndDateTimeAfter(RideStatus.ACTIVE,
-                java.time.LocalDateTime.now());
-
-        return allRides.stream()
-                .filter(ride -> ride.getBookings().stream()
-                        .noneMatch(booking -> booking.getPassenger().getId().equals(user.getId()) &&
-                                (booking.getStatus() == BookingStatus.PENDING
-                                        || booking.getStatus() == BookingStatus.APPROVED)))
-                .collect(java.util.stream.Collectors.toList());
+        return rideSearchIndex.findOpenRides(currentUser.getUser().getId());
+    }
+
+    public List<Ride> searchRides(CustomUserDetails currentUser, RideSearchCriteria criteria) {
+        return rideSearchIndex.search(criteria, currentUser.getUser().getId());
+    }
+
+    public RidePageResponse getRidesPage(CustomUserDetails currentUser, RideSearchCriteria criteria, String cursor,
+            Integer size) {
+        int limit = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Specification<Ride> spec = RideSpecifications.openRides(criteria, LocalDateTime.now())
+                .and(RideSpecifications.notBookedBy(currentUser.getUser().getId()));
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(RideSpecifications.after(RideCursor.decode(cursor)));
+        }
+
+        List<Ride> rides = rideRepository.findBy(spec,
+                query -> query.sortBy(RideSpecifications.KEYSET_ORDER).project("driver").limit(limit + 1).all());
+        boolean hasMore = rides.size() > limit;
+        List<Ride> page = hasMore ? rides.subList(0, limit) : rides;
+        String nextCursor = hasMore ? RideCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new RidePageResponse(page.stream().map(RideResponse::new).collect(Collectors.toList()), nextCursor);
     }
 
-    @Cacheable(value = "ride", key = "#id")
     public Ride getRideById(UUID id) {
-        return rideRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Ride not found"));
+        return rideCache.getRide(id, () -> findRide(id));
     }
 
-    @CacheEvict(value = { "rides", "ride" }, allEntries = true)
+    @Transactional
     public Ride createRide(CustomUserDetails currentUser, RideDto rideDto) {
         User user = userService.getUser(currentUser);
         Ride ride = new Ride();
@@ -70,23 +102,21 @@ public class RideService {
         ride.setSeatsTaken(0);
         ride.setStatus(RideStatus.ACTIVE);
         Ride savedRide = rideRepository.save(ride);
-        try {
-            auditClient.createEntry(new CreateAuditEntryDTO(
-                    user.getId(),
-                    "CREATE",
-                    "RIDE",
-                    savedRide.getId(),
-                    "Ride created"));
-        } catch (Exception e) {
-            System.err.println("Failed to create audit entry: " + e.getMessage());
-        }
+        rideSearchIndex.put(savedRide);
+        rideLifecycleScheduler.rideScheduled(savedRide.getId(), savedRide.getDateTime());
+        auditPublisher.publish(new CreateAuditEntryDTO(
+                user.getId(),
+                "CREATE",
+                "RIDE",
+                savedRide.getId(),
+                "Ride created"));
         return savedRide;
     }
 
-    @CacheEvict(value = { "rides", "ride" }, allEntries = true)
+    @Transactional
     public Ride updateRide(CustomUserDetails currentUser, UUID id, RideDto rideDto) {
-        User user = userService.getUser(currentUser);
-        Ride ride = getRideById(id);
+        User user = currentUser.getUser();
+        Ride ride = findRide(id);
         if (!ride.getDriver().getId().equals(user.getId())) {
             throw new AccessDeniedException("You are not authorized to update this ride");
         }
@@ -96,74 +126,52 @@ public class RideService {
         ride.setPrice(rideDto.getPrice());
         ride.setSeatsAvailable(rideDto.getSeatsAvailable());
         Ride savedRide = rideRepository.save(ride);
-        try {
-            auditClient.createEntry(new CreateAuditEntryDTO(
-                    user.getId(),
-                    "UPDATE",
-                    "RIDE",
-                    savedRide.getId(),
-                    "Ride updated"));
-        } catch (Exception e) {
-            System.err.println("Failed to create audit entry: " + e.getMessage());
-        }
+        rideSearchIndex.put(savedRide);
+        rideCache.rideChanged(id);
+        rideLifecycleScheduler.rideScheduled(id, savedRide.getDateTime());
+        auditPublisher.publish(new CreateAuditEntryDTO(
+                user.getId(),
+                "UPDATE",
+                "RIDE",
+                savedRide.getId(),
+                "Ride updated"));
         return savedRide;
     }
 
-    @CacheEvict(value = { "rides", "ride" }, allEntries = true)
+    @Transactional
     public void deleteRide(CustomUserDetails currentUser, UUID id) {
-        User user = userService.getUser(currentUser);
-        Ride ride = getRideById(id);
+        User user = currentUser.getUser();
+        Ride ride = findRide(id);
         if (!ride.getDriver().getId().equals(user.getId())) {
             throw new AccessDeniedException("You are not authorized to delete this ride");
         }
         rideRepository.delete(ride);
-        try {
-            auditClient.createEntry(new CreateAuditEntryDTO(
-                    user.getId(),
-                    "DELETE",
-                    "RIDE",
-                    id,
-                    "Ride deleted"));
-        } catch (Exception e) {
-            System.err.println("Failed to create audit entry: " + e.getMessage());
-        }
+        rideSearchIndex.remove(id);
+        rideCache.rideChanged(id);
+        rideLifecycleScheduler.rideCancelled(id);
+        auditPublisher.publish(new CreateAuditEntryDTO(
+                user.getId(),
+                "DELETE",
+                "RIDE",
+                id,
+                "Ride deleted"));
     }
 
-    @CacheEvict(value = { "rides", "ride" }, allEntries = true)
+    @Transactional
+    @Recorded("rides.book")
     public Ride bookRide(CustomUserDetails currentUser, UUID id) {
         User user = userService.getUser(currentUser);
-        Ride ride = getRideById(id);
-
-        if (ride.getSeatsTaken() >= ride.getSeatsAvailable()) {
-            throw new ConflictException("No seats available");
-        }
-
-        if (ride.getBookings().stream().anyMatch(booking -> booking.getPassenger().getId().equals(user.getId()) &&
-                (booking.getStatus() == BookingStatus.PENDING || booking.getStatus() == BookingStatus.APPROVED))) {
-            throw new ConflictException("Already booked");
-        }
-
-        Booking booking = new Booking();
-        booking.setPassenger(user);
-        booking.setRide(ride);
-        booking.setStatus(BookingStatus.PENDING);
-        bookingRepository.save(booking);
+        Booking booking = bookingService.book(user, id);
+        auditPublisher.publish(new CreateAuditEntryDTO(
+                user.getId(),
+                "BOOK",
+                "RIDE",
+                id,
+                "Ride booked"));
+        return booking.getRide();
+    }
 
-        ride.setSeatsTaken(ride.getSeatsTaken() + 1);
-        if (ride.getSeatsTaken() >= ride.getSeatsAvailable()) {
-            ride.setStatus(RideStatus.BOOKED);
-        }
-        Ride savedRide = rideRepository.save(ride);
-        try {
-            auditClient.createEntry(new CreateAuditEntryDTO(
-                    user.getId(),
-                    "BOOK",
-                    "RIDE",
-                    savedRide.getId(),
-                    "Ride booked"));
-        } catch (Exception e) {
-            System.err.println("Failed to create audit entry: " + e.getMessage());
-        }
-        return savedRide;
+    private Ride findRide(UUID id) {
+        return rideRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Ride not found"));
     }
 }
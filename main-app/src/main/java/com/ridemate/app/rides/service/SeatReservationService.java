@@ -0,0 +1,65 @@
+package com.ridemate.app.rides.service;
+
+import com.ridemate.app.exceptions.ConflictException;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.repository.RideRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Service
+public class SeatReservationService {
+
+    private final RideRepository rideRepository;
+    private final ReentrantLock[] stripes;
+
+    public SeatReservationService(RideRepository rideRepository,
+            @Value("${ridemate.booking.seat-lock-stripes:0}") int stripeCount) {
+        this.rideRepository = rideRepository;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public void reserve(UUID rideId) {
+        int updated = withStripeLock(rideId, () -> rideRepository.reserveSeat(rideId, RideStatus.ACTIVE,
+                RideStatus.BOOKED, LocalDateTime.now()));
+        if (updated == 0) {
+            throw new ConflictException("Ride is full or no longer open for booking");
+        }
+    }
+
+    public void release(UUID rideId) {
+        withStripeLock(rideId, () -> rideRepository.releaseSeat(rideId, RideStatus.BOOKED, RideStatus.ACTIVE));
+    }
+
+    private int withStripeLock(UUID rideId, Supplier<Integer> update) {
+        if (stripes.length == 0) {
+            return update.get();
+        }
+        ReentrantLock lock = stripes[Math.floorMod(rideId.hashCode(), stripes.length)];
+        lock.lock();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                return update.get();
+            } finally {
+                lock.unlock();
+            }
+        }
+        // the row stays locked in the database until commit, so hold the stripe until then as well
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+        return update.get();
+    }
+}
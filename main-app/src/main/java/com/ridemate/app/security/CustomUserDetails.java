@@ -1,5 +1,6 @@
 package com.ridemate.app.security;
 
+import com.ridemate.app.users.UserRole;
 import com.ridemate.app.users.entity.User;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -16,6 +17,12 @@ public class CustomUserDetails implements UserDetails {
         this.user = user;
     }
 
+    public static CustomUserDetails fromToken(VerifiedToken token) {
+        User user = new User(token.userId(), null, token.username(), null);
+        user.setRole(UserRole.valueOf(token.role()));
+        return new CustomUserDetails(user);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,10 +19,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userService;
+    private final PrincipalCache principalCache;
+    private final boolean statelessPrincipal;
 
-    public JwtAuthFilter(JwtUtil jwtUtil, CustomUserDetailsService userService) {
+    public JwtAuthFilter(JwtUtil jwtUtil, CustomUserDetailsService userService, PrincipalCache principalCache,
+                         @Value("${ridemate.security.stateless-principal:false}") boolean statelessPrincipal) {
         this.jwtUtil = jwtUtil;
         this.userService = userService;
+        this.principalCache = principalCache;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     @Override
@@ -34,25 +40,30 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            String username = jwtUtil.extractUsername(token);
+            VerifiedToken verified = jwtUtil.verify(token);
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (verified.username() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                UserDetails user = userService.loadUserByUsername(username);
+                UserDetails user = resolvePrincipal(verified);
 
-                if (jwtUtil.isValid(token, user)) {
-                    UsernamePasswordAuthenticationToken auth =
-                            new UsernamePasswordAuthenticationToken(
-                                    user, null, user.getAuthorities()
-                            );
+                UsernamePasswordAuthenticationToken auth =
+                        new UsernamePasswordAuthenticationToken(
+                                user, null, user.getAuthorities()
+                        );
 
-                    auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                }
+                SecurityContextHolder.getContext().setAuthentication(auth);
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails resolvePrincipal(VerifiedToken token) {
+        if (statelessPrincipal && token.userId() != null && token.role() != null) {
+            return CustomUserDetails.fromToken(token);
+        }
+        return principalCache.get(token.username(), userService::loadUserByUsername);
+    }
 }
@@ -1,14 +1,21 @@
 package com.ridemate.app.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
@@ -16,42 +23,53 @@ public class JwtUtil {
     private final String SECRET = "u6x7H3h4J9d2F6g5H8k9L0mN1pQ2rS3tU4vW5x6y7z8=";
     private final long EXPIRATION = 1000 * 60 * 60 * 24; // 24h
 
-    private Key getKey() {
-        return Keys.hmacShaKeyFor(SECRET.getBytes());
+    private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+    private final VerifiedTokenCache verifiedTokens;
+
+    public JwtUtil() {
+        this(10_000);
+    }
+
+    @Autowired
+    public JwtUtil(@Value("${ridemate.security.verified-token-cache-size:10000}") int verifiedTokenCacheSize) {
+        this.verifiedTokens = new VerifiedTokenCache(verifiedTokenCacheSize);
     }
 
     public String generateToken(UserDetails user) {
         String role = user.getAuthorities().stream().findFirst().get().getAuthority().replace("ROLE_", "");
+        UUID userId = user instanceof CustomUserDetails details ? details.getUser().getId() : null;
         return Jwts.builder()
                 .setSubject(user.getUsername())
+                .claim("uid", userId == null ? null : userId.toString())
                 .claim("role", role)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
-                .signWith(getKey(), SignatureAlgorithm.HS256)
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    public VerifiedToken verify(String token) {
+        return verifiedTokens.get(token, this::parse);
+    }
+
     public String extractUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return verify(token).username();
     }
 
     public boolean isValid(String token, UserDetails user) {
-        return user.getUsername().equals(extractUsername(token))
-                && !isExpired(token);
+        try {
+            VerifiedToken verified = verify(token);
+            return user.getUsername().equals(verified.username()) && !verified.isExpired(Instant.now());
+        } catch (ExpiredJwtException e) {
+            return false;
+        }
     }
 
-    private boolean isExpired(String token) {
-        Date exp = Jwts.parserBuilder()
-                .setSigningKey(getKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
-        return exp.before(new Date());
+    private VerifiedToken parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        String userId = claims.get("uid", String.class);
+        return new VerifiedToken(claims.getSubject(), userId == null ? null : UUID.fromString(userId),
+                claims.get("role", String.class), claims.getExpiration().toInstant());
     }
 }
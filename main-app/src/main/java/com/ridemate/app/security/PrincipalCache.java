@@ -0,0 +1,99 @@
+package com.ridemate.app.security;
+
+import com.ridemate.app.common.TransactionCallbacks;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+@Component
+public class PrincipalCache {
+
+    public static final String PRINCIPALS = "principal";
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<String, CachedPrincipal> principals;
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public PrincipalCache(@Value("${ridemate.security.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${ridemate.security.principal-cache.ttl-ms:60000}") long ttlMillis,
+                          MeterRegistry meterRegistry) {
+        this(maxSize, ttlMillis, System::nanoTime, meterRegistry);
+    }
+
+    PrincipalCache(int maxSize, long ttlMillis, LongSupplier clock, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.clock = clock;
+        this.principals = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                return size() > PrincipalCache.this.maxSize;
+            }
+        };
+        FunctionCounter.builder("ridemate.cache.gets", hits, AtomicLong::get)
+                .tag("cache", PRINCIPALS).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("ridemate.cache.gets", misses, AtomicLong::get)
+                .tag("cache", PRINCIPALS).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("ridemate.cache.evictions", evictions, AtomicLong::get)
+                .tag("cache", PRINCIPALS).register(meterRegistry);
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        if (maxSize <= 0 || ttlNanos <= 0) {
+            return loader.apply(username);
+        }
+        long observed;
+        synchronized (this) {
+            CachedPrincipal cached = principals.get(username);
+            if (cached != null && clock.getAsLong() - cached.loadedAt() < ttlNanos) {
+                hits.incrementAndGet();
+                return cached.principal();
+            }
+            observed = generation;
+        }
+        misses.incrementAndGet();
+        UserDetails loaded = loader.apply(username);
+        synchronized (this) {
+            // skip caching if the user changed while the principal was being loaded
+            if (generation == observed) {
+                principals.put(username, new CachedPrincipal(loaded, clock.getAsLong()));
+            }
+        }
+        return loaded;
+    }
+
+    public void userChanged(String username) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                generation++;
+                if (principals.remove(username) != null) {
+                    evictions.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    synchronized int size() {
+        return principals.size();
+    }
+
+    private record CachedPrincipal(UserDetails principal, long loadedAt) {
+    }
+}
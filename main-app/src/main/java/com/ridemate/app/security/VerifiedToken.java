@@ -0,0 +1,11 @@
+package com.ridemate.app.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record VerifiedToken(String username, UUID userId, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
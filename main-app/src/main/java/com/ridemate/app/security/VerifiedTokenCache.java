@@ -0,0 +1,72 @@
+package com.ridemate.app.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> tokens;
+
+    VerifiedTokenCache(int maxSize) {
+        this.tokens = maxSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return remaining(token).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                            long currentDuration) {
+                        return remaining(token).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .executor(Runnable::run)
+                .build();
+    }
+
+    VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (tokens == null) {
+            return verifier.apply(token);
+        }
+        return tokens.get(hash(token), key -> verifier.apply(token));
+    }
+
+    int size() {
+        if (tokens == null) {
+            return 0;
+        }
+        tokens.cleanUp();
+        return (int) tokens.estimatedSize();
+    }
+
+    private static Duration remaining(VerifiedToken token) {
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
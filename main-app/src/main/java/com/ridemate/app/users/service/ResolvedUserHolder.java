@@ -0,0 +1,53 @@
+package com.ridemate.app.users.service;
+
+import com.ridemate.app.users.entity.User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class ResolvedUserHolder {
+
+    private static final String ATTRIBUTE = ResolvedUserHolder.class.getName() + ".users";
+
+    public User resolve(UUID userId, Function<UUID, User> loader) {
+        Map<UUID, User> users = users();
+        if (users == null) {
+            return loader.apply(userId);
+        }
+        User user = users.get(userId);
+        if (user == null) {
+            user = loader.apply(userId);
+            users.put(userId, user);
+        }
+        return user;
+    }
+
+    public User refreshed(UUID userId, Function<UUID, User> loader) {
+        User user = loader.apply(userId);
+        Map<UUID, User> users = users();
+        if (users != null) {
+            users.put(userId, user);
+        }
+        return user;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, User> users() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<UUID, User> users = (Map<UUID, User>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (users == null) {
+            users = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, users, RequestAttributes.SCOPE_REQUEST);
+        }
+        return users;
+    }
+}
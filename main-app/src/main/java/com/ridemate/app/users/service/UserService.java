@@ -4,12 +4,15 @@ import com.ridemate.app.exceptions.AccessDeniedException;
 import com.ridemate.app.exceptions.ConflictException;
 import com.ridemate.app.exceptions.ResourceNotFoundException;
 import com.ridemate.app.security.CustomUserDetails;
+import com.ridemate.app.security.PrincipalCache;
 import com.ridemate.app.users.dto.requests.UpdateUserRequest;
 import com.ridemate.app.users.entity.User;
 import com.ridemate.app.users.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.ridemate.app.users.UserRole;
+import com.ridemate.app.client.audit.AuditPublisher;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -24,20 +27,32 @@ public class UserService {
     @Autowired
     private com.ridemate.app.client.audit.AuditClient auditClient;
 
+    @Autowired
+    private AuditPublisher auditPublisher;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private ResolvedUserHolder resolvedUserHolder;
+
     public User getUser(CustomUserDetails currentUser) {
-        return userRepository.findById(currentUser.getUser().getId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return resolvedUserHolder.resolve(currentUser.getUser().getId(), this::findUser);
+    }
+
+    public User refreshUser(CustomUserDetails currentUser) {
+        return resolvedUserHolder.refreshed(currentUser.getUser().getId(), this::findUser);
     }
 
+    @Transactional
     public User updateUser(CustomUserDetails currentUser, UpdateUserRequest updateUserRequest) {
         User user = getUser(currentUser);
         return updateUser(user, updateUserRequest);
     }
 
+    @Transactional
     public User updateUserAsAdmin(CustomUserDetails currentUser, UpdateUserRequest updateUserRequest, UUID id) {
-        if (!currentUser.getUser().getRole().equals(UserRole.ADMIN)) {
-            throw new AccessDeniedException("Only admins can do this");
-        }
+        requireAdmin(currentUser);
         Optional<User> userOptional = userRepository.findById(id);
         if (userOptional.isEmpty()) {
             throw new ResourceNotFoundException("User not found");
@@ -45,33 +60,27 @@ public class UserService {
         return updateUser(userOptional.get(), updateUserRequest);
     }
 
+    @Transactional
     public User updateUserRole(CustomUserDetails currentUser, UUID id, UserRole newRole) {
-        if (!currentUser.getUser().getRole().equals(UserRole.ADMIN)) {
-            throw new AccessDeniedException("Only admins can do this");
-        }
+        requireAdmin(currentUser);
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         user.setRole(newRole);
         User savedUser = userRepository.save(user);
+        principalCache.userChanged(savedUser.getEmail());
 
-        try {
-            auditClient.createEntry(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
-                    currentUser.getUser().getId(),
-                    "UPDATE_ROLE",
-                    "USER",
-                    savedUser.getId(),
-                    "User role updated to " + newRole));
-        } catch (Exception e) {
-            System.err.println("Failed to create audit entry: " + e.getMessage());
-        }
+        auditPublisher.publish(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
+                currentUser.getUser().getId(),
+                "UPDATE_ROLE",
+                "USER",
+                savedUser.getId(),
+                "User role updated to " + newRole));
         return savedUser;
     }
 
     public java.util.List<User> getAllUsers(CustomUserDetails currentUser) {
-        if (!currentUser.getUser().getRole().equals(UserRole.ADMIN)) {
-            throw new AccessDeniedException("Only admins can do this");
-        }
+        requireAdmin(currentUser);
         return userRepository.findAll();
     }
 
@@ -84,7 +93,18 @@ public class UserService {
         auditClient.deleteEntriesForUser(currentUser.getUser().getId());
     }
 
+    private User findUser(UUID id) {
+        return userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    private void requireAdmin(CustomUserDetails currentUser) {
+        if (!refreshUser(currentUser).getRole().equals(UserRole.ADMIN)) {
+            throw new AccessDeniedException("Only admins can do this");
+        }
+    }
+
     private User updateUser(User user, UpdateUserRequest updateUserRequest) {
+        String previousEmail = user.getEmail();
         if (updateUserRequest.getEmail() != null && !Objects.equals(user.getEmail(), updateUserRequest.getEmail())) {
             if (userRepository.existsByEmail(updateUserRequest.getEmail())) {
                 throw new ConflictException("Email already taken");
@@ -102,16 +122,16 @@ public class UserService {
             user.setProfileImageUrl(updateUserRequest.getProfileImageUrl());
         }
         User savedUser = userRepository.save(user);
-        try {
-            auditClient.createEntry(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
-                    user.getId(),
-                    "UPDATE",
-                    "USER",
-                    savedUser.getId(),
-                    "User updated profile"));
-        } catch (Exception e) {
-            System.err.println("Failed to create audit entry: " + e.getMessage());
+        principalCache.userChanged(previousEmail);
+        if (!Objects.equals(previousEmail, savedUser.getEmail())) {
+            principalCache.userChanged(savedUser.getEmail());
         }
+        auditPublisher.publish(new com.ridemate.app.client.audit.dto.CreateAuditEntryDTO(
+                user.getId(),
+                "UPDATE",
+                "USER",
+                savedUser.getId(),
+                "User updated profile"));
         return savedUser;
     }
 }
@@ -0,0 +1,43 @@
+CREATE INDEX IF NOT EXISTS idx_bookings_passenger_active
+    ON bookings (passenger_id, status)
+    WHERE status IN ('PENDING', 'APPROVED');
+
+-- bookings created before uq_bookings_ride_passenger_active may hold several active rows per ride and passenger;
+-- keep the approved (else oldest) one, cancel the rest and give their seats back
+UPDATE rides
+SET seats_taken = GREATEST(seats_taken - (
+        SELECT COUNT(*) FROM (
+        SELECT id, ride_id, ROW_NUMBER() OVER (
+            PARTITION BY ride_id, passenger_id
+            ORDER BY CASE WHEN status = 'APPROVED' THEN 0 ELSE 1 END, created_at, id) AS position
+        FROM bookings
+        WHERE status IN ('PENDING', 'APPROVED')) duplicates
+        WHERE duplicates.ride_id = rides.id AND duplicates.position > 1), 0),
+    status = CASE WHEN status = 'BOOKED' THEN 'ACTIVE' ELSE status END
+WHERE id IN (
+    SELECT ride_id FROM (
+        SELECT id, ride_id, ROW_NUMBER() OVER (
+            PARTITION BY ride_id, passenger_id
+            ORDER BY CASE WHEN status = 'APPROVED' THEN 0 ELSE 1 END, created_at, id) AS position
+        FROM bookings
+        WHERE status IN ('PENDING', 'APPROVED')) duplicates
+    WHERE duplicates.position > 1);
+
+UPDATE bookings
+SET status = 'CANCELLED'
+WHERE id IN (
+    SELECT id FROM (
+        SELECT id, ride_id, ROW_NUMBER() OVER (
+            PARTITION BY ride_id, passenger_id
+            ORDER BY CASE WHEN status = 'APPROVED' THEN 0 ELSE 1 END, created_at, id) AS position
+        FROM bookings
+        WHERE status IN ('PENDING', 'APPROVED')) duplicates
+    WHERE duplicates.position > 1);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_bookings_ride_passenger_active
+    ON bookings (ride_id, passenger_id)
+    WHERE status IN ('PENDING', 'APPROVED');
+
+CREATE INDEX IF NOT EXISTS idx_audit_outbox_pending
+    ON audit_outbox (id)
+    WHERE dead_lettered_at IS NULL;
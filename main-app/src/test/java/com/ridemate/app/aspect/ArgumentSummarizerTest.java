@@ -0,0 +1,52 @@
+package com.ridemate.app.aspect;
+
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.users.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArgumentSummarizerTest {
+
+    private final ArgumentSummarizer summarizer = new ArgumentSummarizer(5, 2);
+
+    @Test
+    void summarize_ShouldTruncateLongText() {
+        assertEquals("\"abc\"", summarizer.summarize("abc"));
+        assertEquals("\"abcde...\"(10)", summarizer.summarize("abcdefghij"));
+    }
+
+    @Test
+    void summarize_ShouldCapCollectionElements() {
+        assertEquals("ArrayList[size=4: 1, 2, ...]", summarizer.summarize(new ArrayList<>(List.of(1, 2, 3, 4))));
+        assertEquals("ArrayList[size=0]", summarizer.summarize(new ArrayList<>()));
+        assertEquals("Integer[][size=1: 7]", summarizer.summarize((Object) new Integer[] { 7 }));
+        assertEquals("byte[length=3]", summarizer.summarize(new byte[3]));
+    }
+
+    @Test
+    void summarize_ShouldDescribeEntitiesByIdWithoutTouchingAssociations() {
+        UUID rideId = UUID.randomUUID();
+        Ride ride = new Ride();
+        ride.setId(rideId);
+        ride.setDriver(new User());
+
+        assertEquals("Ride#" + rideId, summarizer.summarize(ride));
+        assertEquals("[Ride#" + rideId + ", null, HashMap[size=1]]",
+                summarizer.summarize(new Object[] { ride, null, new HashMap<>(Map.of("k", "v")) }));
+    }
+
+    @Test
+    void summarize_ShouldUnwrapResponsesAndOptionals() {
+        assertEquals("ResponseEntity[200, \"ok\"]", summarizer.summarize(ResponseEntity.ok("ok")));
+        assertEquals("Optional[42]", summarizer.summarize(Optional.of(42)));
+    }
+}
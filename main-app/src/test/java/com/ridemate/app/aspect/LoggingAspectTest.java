@@ -1,62 +1,122 @@
 package com.ridemate.app.aspect;
 
-import org.aspectj.lang.JoinPoint;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class LoggingAspectTest {
 
-    @InjectMocks
     private LoggingAspect loggingAspect;
 
     @Mock
-    private JoinPoint joinPoint;
+    private ProceedingJoinPoint joinPoint;
 
     @Mock
     private Signature signature;
 
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
     @BeforeEach
     void setUp() {
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("testMethod");
+        loggingAspect = new LoggingAspect(1.0, "", 100, 3);
         when(joinPoint.getTarget()).thenReturn(new TestService());
+        logger = (Logger) LoggerFactory.getLogger(TestService.class);
+        logger.setLevel(Level.DEBUG);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
     }
 
     @Test
-    void logMethodEntry_ShouldLogEntry() {
-        Object[] args = new Object[] { "arg1", "arg2" };
-        when(joinPoint.getArgs()).thenReturn(args);
+    void trace_ShouldLogEntryAndExit() throws Throwable {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("testMethod");
+        when(joinPoint.getArgs()).thenReturn(new Object[] { "arg1", "arg2" });
+        when(joinPoint.proceed()).thenReturn("testResult");
 
-        loggingAspect.logMethodEntry(joinPoint);
+        Object result = loggingAspect.trace(joinPoint);
 
-        verify(joinPoint, times(1)).getSignature();
+        assertEquals("testResult", result);
         verify(joinPoint, times(1)).getArgs();
+        assertEquals(2, appender.list.size());
+        assertEquals("Entering method: TestService.testMethod with arguments: [\"arg1\", \"arg2\"]",
+                appender.list.get(0).getFormattedMessage());
+        assertTrue(appender.list.get(1).getFormattedMessage().endsWith("with result: \"testResult\""));
+    }
+
+    @Test
+    void trace_ShouldSummarizeLargeCollections() throws Throwable {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("testMethod");
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        when(joinPoint.proceed()).thenReturn(IntStream.range(0, 1_000).boxed().toList());
+
+        loggingAspect.trace(joinPoint);
+
+        String exit = appender.list.get(1).getFormattedMessage();
+        assertTrue(exit.endsWith("[size=1000: 0, 1, 2, ...]"), exit);
     }
 
     @Test
-    void logMethodExit_ShouldLogExit() {
-        Object result = "testResult";
+    void trace_ShouldNotTouchArguments_WhenDebugDisabled() throws Throwable {
+        logger.setLevel(Level.INFO);
+        when(joinPoint.proceed()).thenReturn(List.of("result"));
 
-        loggingAspect.logMethodExit(joinPoint, result);
+        loggingAspect.trace(joinPoint);
 
-        verify(joinPoint, times(1)).getSignature();
+        verify(joinPoint, never()).getArgs();
+        verify(joinPoint, never()).getSignature();
+        assertTrue(appender.list.isEmpty());
     }
 
     @Test
-    void logException_ShouldLogException() {
-        Throwable exception = new RuntimeException("Test exception");
+    void trace_ShouldSkipPackagesSampledOut() throws Throwable {
+        loggingAspect = new LoggingAspect(1.0, "com.ridemate.app.aspect=0, com.ridemate.app.rides=0.5", 100, 3);
+        when(joinPoint.proceed()).thenReturn("testResult");
+
+        loggingAspect.trace(joinPoint);
+
+        verify(joinPoint, never()).getArgs();
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void trace_ShouldLogAndRethrowException() throws Throwable {
+        logger.setLevel(Level.INFO);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("testMethod");
+        RuntimeException exception = new RuntimeException("Test exception");
+        when(joinPoint.proceed()).thenThrow(exception);
 
-        loggingAspect.logException(joinPoint, exception);
+        assertSame(exception, assertThrows(RuntimeException.class, () -> loggingAspect.trace(joinPoint)));
 
-        verify(joinPoint, times(1)).getSignature();
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.ERROR, appender.list.get(0).getLevel());
+        verify(joinPoint, never()).getArgs();
     }
 
     private static class TestService {
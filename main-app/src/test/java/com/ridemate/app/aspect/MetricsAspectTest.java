@@ -0,0 +1,100 @@
+package com.ridemate.app.aspect;
+
+import com.ridemate.app.monitoring.MethodMetrics;
+import com.ridemate.app.monitoring.Recorded;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsAspect metricsAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metricsAspect = new MetricsAspect(new MethodMetrics(meterRegistry, true));
+        when(joinPoint.getTarget()).thenReturn(new TestService());
+        when(joinPoint.getSignature()).thenReturn(signature);
+    }
+
+    @Test
+    void time_ShouldRecordSuccessTimer() throws Throwable {
+        when(signature.getMethod()).thenReturn(TestService.class.getDeclaredMethod("plain"));
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertEquals("result", metricsAspect.time(joinPoint));
+        metricsAspect.time(joinPoint);
+
+        Timer timer = meterRegistry.get(MethodMetrics.TIMER_NAME)
+                .tags("class", "TestService", "method", "plain", "outcome", "success").timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void time_ShouldTagFailuresWithExceptionType() throws Throwable {
+        when(signature.getMethod()).thenReturn(TestService.class.getDeclaredMethod("plain"));
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> metricsAspect.time(joinPoint));
+
+        assertEquals(1, meterRegistry.get(MethodMetrics.TIMER_NAME)
+                .tags("method", "plain", "outcome", "IllegalStateException").timer().count());
+    }
+
+    @Test
+    void time_ShouldEmitJfrEventForRecordedMethods(@TempDir Path directory) throws Throwable {
+        when(signature.getMethod()).thenReturn(TestService.class.getDeclaredMethod("recorded"));
+        when(joinPoint.proceed()).thenReturn("result");
+        Path dump = directory.resolve("operations.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.ridemate.Operation").withoutThreshold();
+            recording.start();
+            metricsAspect.time(joinPoint);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals("com.ridemate.Operation"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("test.recorded", events.get(0).getString("operation"));
+        assertEquals("success", events.get(0).getString("outcome"));
+    }
+
+    private static class TestService {
+
+        void plain() {
+        }
+
+        @Recorded("test.recorded")
+        void recorded() {
+        }
+    }
+}
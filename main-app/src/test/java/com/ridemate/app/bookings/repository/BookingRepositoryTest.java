@@ -0,0 +1,132 @@
+package com.ridemate.app.bookings.repository;
+
+import com.ridemate.app.bookings.BookingStatus;
+import com.ridemate.app.bookings.dto.BookingResponse;
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.common.QueryCountInspector;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ContextConfiguration(classes = BookingRepositoryTest.JpaConfig.class)
+class BookingRepositoryTest {
+
+    private static final int RIDES = 10;
+    private static final int PASSENGERS = 30;
+
+    @Configuration
+    @EntityScan("com.ridemate.app")
+    @EnableJpaRepositories("com.ridemate.app")
+    @Import(QueryCountInspector.class)
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QueryCountInspector queryCountInspector;
+
+    private User driver;
+    private User passenger;
+
+    @BeforeEach
+    void setUp() {
+        driver = persistUser("driver", UserRole.DRIVER);
+        List<Ride> rides = new ArrayList<>();
+        for (int i = 0; i < RIDES; i++) {
+            rides.add(persistRide(i));
+        }
+        for (int i = 0; i < PASSENGERS; i++) {
+            User user = persistUser("passenger" + i, UserRole.USER);
+            persistBooking(rides.get(i % RIDES), user);
+            persistBooking(rides.get((i + 1) % RIDES), user);
+            if (i == 0) {
+                passenger = user;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryCountInspector.stop();
+    }
+
+    @Test
+    void findByRideDriverId_ShouldLoadBookingResponsesInOneStatement() {
+        queryCountInspector.start();
+
+        List<BookingResponse> responses = bookingRepository.findByRideDriverId(driver.getId()).stream()
+                .map(BookingResponse::new)
+                .toList();
+
+        assertEquals(PASSENGERS * 2, responses.size());
+        assertTrue(responses.stream().allMatch(response -> response.getRide().getDriver().getUsername() != null));
+        int statements = queryCountInspector.stop();
+        assertTrue(statements <= 1, "expected a single statement but got " + statements);
+    }
+
+    @Test
+    void findByPassengerId_ShouldLoadBookingResponsesInOneStatement() {
+        queryCountInspector.start();
+
+        List<BookingResponse> responses = bookingRepository.findByPassengerId(passenger.getId()).stream()
+                .map(BookingResponse::new)
+                .toList();
+
+        assertEquals(2, responses.size());
+        int statements = queryCountInspector.stop();
+        assertTrue(statements <= 1, "expected a single statement but got " + statements);
+    }
+
+    private User persistUser(String name, UserRole role) {
+        User user = new User(null, name, name + "@test.com", "secret");
+        user.setRole(role);
+        return entityManager.persist(user);
+    }
+
+    private Ride persistRide(int index) {
+        Ride ride = new Ride();
+        ride.setDriver(driver);
+        ride.setOrigin("Sofia");
+        ride.setDestination("Plovdiv");
+        ride.setDateTime(LocalDateTime.now().plusDays(1).plusHours(index));
+        ride.setPrice(15.0);
+        ride.setSeatsAvailable(4);
+        ride.setSeatsTaken(0);
+        ride.setStatus(RideStatus.ACTIVE);
+        return entityManager.persist(ride);
+    }
+
+    private void persistBooking(Ride ride, User user) {
+        Booking booking = new Booking();
+        booking.setRide(ride);
+        booking.setPassenger(user);
+        booking.setStatus(BookingStatus.PENDING);
+        entityManager.persist(booking);
+    }
+}
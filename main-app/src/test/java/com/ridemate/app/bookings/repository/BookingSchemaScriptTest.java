@@ -0,0 +1,129 @@
+package com.ridemate.app.bookings.repository;
+
+import com.ridemate.app.bookings.BookingStatus;
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ContextConfiguration(classes = BookingSchemaScriptTest.JpaConfig.class)
+class BookingSchemaScriptTest {
+
+    @Configuration
+    @EntityScan("com.ridemate.app")
+    @EnableJpaRepositories("com.ridemate.app")
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void schemaScript_ShouldCancelDuplicateActiveBookingsBeforeCreatingUniqueIndex() throws IOException {
+        User driver = persistUser("driver", UserRole.DRIVER);
+        User first = persistUser("first", UserRole.USER);
+        User second = persistUser("second", UserRole.USER);
+        LocalDateTime now = LocalDateTime.now();
+
+        Ride full = persistRide(driver, 3, 3, RideStatus.BOOKED);
+        Booking olderPending = persistBooking(full, first, BookingStatus.PENDING, now.minusHours(2));
+        Booking newerApproved = persistBooking(full, first, BookingStatus.APPROVED, now.minusHours(1));
+        Booking otherPassenger = persistBooking(full, second, BookingStatus.PENDING, now.minusHours(1));
+
+        Ride open = persistRide(driver, 4, 2, RideStatus.ACTIVE);
+        Booking oldest = persistBooking(open, first, BookingStatus.PENDING, now.minusHours(3));
+        Booking newest = persistBooking(open, first, BookingStatus.PENDING, now.minusHours(1));
+        Booking cancelled = persistBooking(open, second, BookingStatus.CANCELLED, now.minusHours(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        runSchemaScript();
+        runSchemaScript();
+
+        assertEquals(BookingStatus.CANCELLED, status(olderPending));
+        assertEquals(BookingStatus.APPROVED, status(newerApproved));
+        assertEquals(BookingStatus.PENDING, status(otherPassenger));
+        assertEquals(BookingStatus.PENDING, status(oldest));
+        assertEquals(BookingStatus.CANCELLED, status(newest));
+        assertEquals(BookingStatus.CANCELLED, status(cancelled));
+
+        Ride fullAfter = entityManager.find(Ride.class, full.getId());
+        assertEquals(2, fullAfter.getSeatsTaken());
+        assertEquals(RideStatus.ACTIVE, fullAfter.getStatus());
+        Ride openAfter = entityManager.find(Ride.class, open.getId());
+        assertEquals(1, openAfter.getSeatsTaken());
+        assertEquals(RideStatus.ACTIVE, openAfter.getStatus());
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT ride_id, passenger_id "
+                + "FROM bookings WHERE status IN ('PENDING', 'APPROVED') "
+                + "GROUP BY ride_id, passenger_id HAVING COUNT(*) > 1) duplicates", Integer.class));
+    }
+
+    // H2 has no partial indexes, so only the data statements of the PostgreSQL script run here
+    private void runSchemaScript() throws IOException {
+        String script = new ClassPathResource("schema-postgresql.sql").getContentAsString(StandardCharsets.UTF_8);
+        String withoutComments = script.lines()
+                .filter(line -> !line.trim().startsWith("--"))
+                .collect(Collectors.joining("\n"));
+        Arrays.stream(withoutComments.split(";"))
+                .map(String::trim)
+                .filter(statement -> !statement.isEmpty() && !statement.startsWith("CREATE"))
+                .forEach(jdbcTemplate::update);
+        entityManager.clear();
+    }
+
+    private BookingStatus status(Booking booking) {
+        return entityManager.find(Booking.class, booking.getId()).getStatus();
+    }
+
+    private User persistUser(String name, UserRole role) {
+        User user = new User(null, name, name + "@test.com", "secret");
+        user.setRole(role);
+        return entityManager.persist(user);
+    }
+
+    private Ride persistRide(User driver, int seatsAvailable, int seatsTaken, RideStatus status) {
+        Ride ride = new Ride();
+        ride.setDriver(driver);
+        ride.setOrigin("Sofia");
+        ride.setDestination("Plovdiv");
+        ride.setDateTime(LocalDateTime.now().plusDays(1));
+        ride.setPrice(10.0);
+        ride.setSeatsAvailable(seatsAvailable);
+        ride.setSeatsTaken(seatsTaken);
+        ride.setStatus(status);
+        return entityManager.persist(ride);
+    }
+
+    private Booking persistBooking(Ride ride, User passenger, BookingStatus status, LocalDateTime createdAt) {
+        Booking booking = new Booking();
+        booking.setRide(ride);
+        booking.setPassenger(passenger);
+        booking.setStatus(status);
+        booking.setCreatedAt(createdAt);
+        return entityManager.persist(booking);
+    }
+}
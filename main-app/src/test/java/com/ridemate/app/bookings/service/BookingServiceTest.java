@@ -4,13 +4,17 @@ import com.ridemate.app.bookings.BookingStatus;
 import com.ridemate.app.bookings.dto.BookingDto;
 import com.ridemate.app.bookings.entity.Booking;
 import com.ridemate.app.bookings.repository.BookingRepository;
-import com.ridemate.app.client.audit.AuditClient;
+import com.ridemate.app.client.audit.AuditPublisher;
 import com.ridemate.app.client.audit.dto.CreateAuditEntryDTO;
 import com.ridemate.app.exceptions.AccessDeniedException;
 import com.ridemate.app.exceptions.ConflictException;
 import com.ridemate.app.exceptions.ResourceNotFoundException;
+import com.ridemate.app.pdf.PdfCache;
+import com.ridemate.app.rides.cache.RideCache;
 import com.ridemate.app.rides.entity.Ride;
 import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.rides.search.RideSearchIndex;
+import com.ridemate.app.rides.service.SeatReservationService;
 import com.ridemate.app.security.CustomUserDetails;
 import com.ridemate.app.users.entity.User;
 import com.ridemate.app.users.service.UserService;
@@ -21,6 +25,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Collections;
 import java.util.List;
@@ -47,7 +52,19 @@ class BookingServiceTest {
     private ApplicationEventPublisher eventPublisher;
 
     @Mock
-    private AuditClient auditClient;
+    private AuditPublisher auditPublisher;
+
+    @Mock
+    private SeatReservationService seatReservationService;
+
+    @Mock
+    private RideSearchIndex rideSearchIndex;
+
+    @Mock
+    private RideCache rideCache;
+
+    @Mock
+    private PdfCache pdfCache;
 
     @InjectMocks
     private BookingService bookingService;
@@ -73,16 +90,51 @@ class BookingServiceTest {
         ride.setDriver(driver);
         ride.setDateTime(java.time.LocalDateTime.now().plusDays(1));
         when(rideRepository.findById(rideId)).thenReturn(Optional.of(ride));
+        doAnswer(invocation -> {
+            ride.setSeatsTaken(1);
+            return null;
+        }).when(seatReservationService).reserve(rideId);
 
         Booking savedBooking = new Booking();
         savedBooking.setId(UUID.randomUUID());
-        when(bookingRepository.save(any(Booking.class))).thenReturn(savedBooking);
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenReturn(savedBooking);
 
         Booking result = bookingService.createBooking(currentUser, bookingDto);
 
         assertNotNull(result);
         assertEquals(1, ride.getSeatsTaken());
-        verify(auditClient, times(1)).createEntry(any(CreateAuditEntryDTO.class));
+        verify(seatReservationService, times(1)).reserve(rideId);
+        verify(rideRepository, never()).save(any(Ride.class));
+        verify(rideSearchIndex, times(1)).addPassenger(rideId, user.getId());
+        verify(auditPublisher, times(1)).publish(any(CreateAuditEntryDTO.class));
+    }
+
+    @Test
+    void createBooking_ShouldThrowConflict_WhenAlreadyBooked() {
+        CustomUserDetails currentUser = mock(CustomUserDetails.class);
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRole(UserRole.USER);
+        when(userService.getUser(currentUser)).thenReturn(user);
+
+        UUID rideId = UUID.randomUUID();
+        BookingDto bookingDto = new BookingDto();
+        bookingDto.setRideId(rideId);
+
+        Ride ride = new Ride();
+        ride.setId(rideId);
+        ride.setSeatsAvailable(4);
+        ride.setSeatsTaken(1);
+        User driver = new User();
+        driver.setId(UUID.randomUUID());
+        ride.setDriver(driver);
+        ride.setDateTime(java.time.LocalDateTime.now().plusDays(1));
+        when(rideRepository.findById(rideId)).thenReturn(Optional.of(ride));
+        when(bookingRepository.existsByRideIdAndPassengerIdAndStatusIn(rideId, user.getId(),
+                BookingStatus.ACTIVE_STATUSES)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> bookingService.createBooking(currentUser, bookingDto));
+        verifyNoInteractions(seatReservationService, rideSearchIndex);
     }
 
     @Test
@@ -106,6 +158,34 @@ class BookingServiceTest {
         when(rideRepository.findById(rideId)).thenReturn(Optional.of(ride));
 
         assertThrows(ConflictException.class, () -> bookingService.createBooking(currentUser, bookingDto));
+        verify(seatReservationService, never()).reserve(any());
+    }
+
+    @Test
+    void book_ShouldNotSaveBooking_WhenReservationLosesRace() {
+        User passenger = passenger();
+        Ride ride = openRide();
+        when(rideRepository.findById(ride.getId())).thenReturn(Optional.of(ride));
+        doThrow(new ConflictException("Ride is full or no longer open for booking"))
+                .when(seatReservationService).reserve(ride.getId());
+
+        assertThrows(ConflictException.class, () -> bookingService.book(passenger, ride.getId()));
+        verify(bookingRepository, never()).saveAndFlush(any(Booking.class));
+        verifyNoInteractions(rideSearchIndex, rideCache);
+    }
+
+    @Test
+    void book_ShouldThrowConflict_WhenConcurrentDuplicateHitsUniqueIndex() {
+        User passenger = passenger();
+        Ride ride = openRide();
+        when(rideRepository.findById(ride.getId())).thenReturn(Optional.of(ride));
+        when(bookingRepository.saveAndFlush(any(Booking.class)))
+                .thenThrow(new DataIntegrityViolationException("uq_bookings_ride_passenger_active"));
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> bookingService.book(passenger, ride.getId()));
+        assertEquals("Already booked", exception.getMessage());
+        verifyNoInteractions(rideSearchIndex, rideCache);
     }
 
     @Test
@@ -113,7 +193,7 @@ class BookingServiceTest {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(currentUser.getUser()).thenReturn(user);
         when(bookingRepository.findByPassengerId(user.getId())).thenReturn(Collections.emptyList());
 
         List<Booking> result = bookingService.getMyBookings(currentUser);
@@ -127,24 +207,58 @@ class BookingServiceTest {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(currentUser.getUser()).thenReturn(user);
 
         UUID bookingId = UUID.randomUUID();
         Booking booking = new Booking();
         booking.setId(bookingId);
         booking.setPassenger(user);
+        booking.setStatus(BookingStatus.PENDING);
         Ride ride = new Ride();
+        ride.setId(UUID.randomUUID());
         ride.setSeatsTaken(1);
         booking.setRide(ride);
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(rideRepository.findById(ride.getId())).thenReturn(Optional.of(ride));
+        doAnswer(invocation -> {
+            ride.setSeatsTaken(0);
+            return null;
+        }).when(seatReservationService).release(ride.getId());
 
         Booking result = bookingService.cancelBooking(currentUser, bookingId);
 
         assertNotNull(result);
         assertEquals(BookingStatus.CANCELLED, result.getStatus());
         assertEquals(0, ride.getSeatsTaken());
-        verify(auditClient, times(1)).createEntry(any(CreateAuditEntryDTO.class));
+        verify(rideSearchIndex, times(1)).removePassenger(ride.getId(), user.getId());
+        verify(rideCache, times(1)).rideChanged(ride.getId());
+        verify(auditPublisher, times(1)).publish(any(CreateAuditEntryDTO.class));
+    }
+
+    @Test
+    void cancelBooking_ShouldNotReleaseSeat_WhenAlreadyCancelled() {
+        CustomUserDetails currentUser = mock(CustomUserDetails.class);
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        when(currentUser.getUser()).thenReturn(user);
+
+        UUID bookingId = UUID.randomUUID();
+        Booking booking = new Booking();
+        booking.setId(bookingId);
+        booking.setPassenger(user);
+        booking.setStatus(BookingStatus.CANCELLED);
+        Ride ride = new Ride();
+        ride.setId(UUID.randomUUID());
+        ride.setSeatsTaken(1);
+        booking.setRide(ride);
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+
+        bookingService.cancelBooking(currentUser, bookingId);
+
+        assertEquals(1, ride.getSeatsTaken());
+        verify(seatReservationService, never()).release(any());
     }
 
     @Test
@@ -153,24 +267,34 @@ class BookingServiceTest {
         User user = new User();
         user.setId(UUID.randomUUID());
         user.setRole(UserRole.DRIVER);
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(userService.refreshUser(currentUser)).thenReturn(user);
 
         UUID bookingId = UUID.randomUUID();
         Booking booking = new Booking();
         booking.setId(bookingId);
+        User passenger = new User();
+        passenger.setId(UUID.randomUUID());
+        booking.setPassenger(passenger);
         Ride ride = new Ride();
+        ride.setId(UUID.randomUUID());
         ride.setDriver(user);
         ride.setSeatsTaken(1);
         booking.setRide(ride);
+        booking.setStatus(BookingStatus.PENDING);
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(rideRepository.findById(ride.getId())).thenReturn(Optional.of(ride));
+        doAnswer(invocation -> {
+            ride.setSeatsTaken(0);
+            return null;
+        }).when(seatReservationService).release(ride.getId());
 
         Booking result = bookingService.rejectBooking(currentUser, bookingId);
 
         assertNotNull(result);
         assertEquals(BookingStatus.REJECTED, result.getStatus());
         assertEquals(0, ride.getSeatsTaken());
-        verify(auditClient, times(1)).createEntry(any(CreateAuditEntryDTO.class));
+        verify(auditPublisher, times(1)).publish(any(CreateAuditEntryDTO.class));
     }
 
     @Test
@@ -179,11 +303,12 @@ class BookingServiceTest {
         User user = new User();
         user.setId(UUID.randomUUID());
         user.setRole(UserRole.DRIVER);
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(userService.refreshUser(currentUser)).thenReturn(user);
 
         UUID bookingId = UUID.randomUUID();
         Booking booking = new Booking();
         booking.setId(bookingId);
+        booking.setStatus(BookingStatus.PENDING);
         Ride ride = new Ride();
         ride.setDriver(user);
         booking.setRide(ride);
@@ -194,7 +319,9 @@ class BookingServiceTest {
 
         assertNotNull(result);
         assertEquals(BookingStatus.APPROVED, result.getStatus());
-        verify(auditClient, times(1)).createEntry(any(CreateAuditEntryDTO.class));
+        verifyNoInteractions(rideCache);
+        verify(pdfCache).bookingChanged(bookingId);
+        verify(auditPublisher, times(1)).publish(any(CreateAuditEntryDTO.class));
     }
 
     @Test
@@ -218,7 +345,7 @@ class BookingServiceTest {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(currentUser.getUser()).thenReturn(user);
 
         UUID bookingId = UUID.randomUUID();
         Booking booking = new Booking();
@@ -235,7 +362,7 @@ class BookingServiceTest {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(userService.refreshUser(currentUser)).thenReturn(user);
 
         UUID bookingId = UUID.randomUUID();
         Booking booking = new Booking();
@@ -254,7 +381,7 @@ class BookingServiceTest {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(userService.refreshUser(currentUser)).thenReturn(user);
 
         UUID bookingId = UUID.randomUUID();
         Booking booking = new Booking();
@@ -267,4 +394,67 @@ class BookingServiceTest {
 
         assertThrows(AccessDeniedException.class, () -> bookingService.approveBooking(currentUser, bookingId));
     }
+
+    @Test
+    void approveBooking_ShouldThrowException_WhenDriverDemotedSincePrincipalWasIssued() {
+        CustomUserDetails currentUser = mock(CustomUserDetails.class);
+        UUID userId = UUID.randomUUID();
+        User stored = new User();
+        stored.setId(userId);
+        stored.setRole(UserRole.USER);
+        when(userService.refreshUser(currentUser)).thenReturn(stored);
+
+        UUID bookingId = UUID.randomUUID();
+        Booking booking = new Booking();
+        booking.setStatus(BookingStatus.PENDING);
+        Ride ride = new Ride();
+        ride.setDriver(stored);
+        booking.setRide(ride);
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+
+        assertThrows(AccessDeniedException.class, () -> bookingService.approveBooking(currentUser, bookingId));
+        verify(currentUser, never()).getUser();
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void approveBooking_ShouldThrowConflict_WhenBookingNotPending() {
+        CustomUserDetails currentUser = mock(CustomUserDetails.class);
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRole(UserRole.DRIVER);
+        when(userService.refreshUser(currentUser)).thenReturn(user);
+
+        UUID bookingId = UUID.randomUUID();
+        Booking booking = new Booking();
+        booking.setId(bookingId);
+        booking.setStatus(BookingStatus.CANCELLED);
+        Ride ride = new Ride();
+        ride.setDriver(user);
+        booking.setRide(ride);
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+
+        assertThrows(ConflictException.class, () -> bookingService.approveBooking(currentUser, bookingId));
+        verify(bookingRepository, never()).save(any());
+        verifyNoInteractions(rideSearchIndex);
+    }
+
+    private static User passenger() {
+        User passenger = new User();
+        passenger.setId(UUID.randomUUID());
+        passenger.setRole(UserRole.USER);
+        return passenger;
+    }
+
+    private static Ride openRide() {
+        Ride ride = new Ride();
+        ride.setId(UUID.randomUUID());
+        ride.setSeatsAvailable(4);
+        ride.setSeatsTaken(0);
+        User driver = new User();
+        driver.setId(UUID.randomUUID());
+        ride.setDriver(driver);
+        ride.setDateTime(java.time.LocalDateTime.now().plusDays(1));
+        return ride;
+    }
 }
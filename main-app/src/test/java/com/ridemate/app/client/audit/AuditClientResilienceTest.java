@@ -0,0 +1,135 @@
+package com.ridemate.app.client.audit;
+
+import com.ridemate.app.exceptions.ServiceUnavailableException;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditClientResilienceTest {
+
+    private static final Request.Options DEFAULTS = new Request.Options(1000, TimeUnit.MILLISECONDS, 3000,
+            TimeUnit.MILLISECONDS, true);
+
+    private final List<MethodMetadata> metadata = new SpringMvcContract().parseAndValidateMetadata(AuditClient.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditClientResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        resilience = new AuditClientResilience(meterRegistry, "deleteEntriesForUser=250",
+                "getEntriesForUser=1500,createEntries=10000", 1, 0, 50, 2000, 80, 4, 4, 60000, 1);
+    }
+
+    @Test
+    void enrich_ShouldApplyPerMethodTimeouts() throws Exception {
+        AtomicReference<Request.Options> used = new AtomicReference<>();
+        Client delegate = (request, options) -> {
+            used.set(options);
+            return response(request, 200);
+        };
+        Client client = resilience.enrich(delegate);
+
+        client.execute(request("getEntriesForUser"), DEFAULTS);
+        assertEquals(1000, used.get().connectTimeoutMillis());
+        assertEquals(1500, used.get().readTimeoutMillis());
+
+        client.execute(request("deleteEntriesForUser"), DEFAULTS);
+        assertEquals(250, used.get().connectTimeoutMillis());
+        assertEquals(3000, used.get().readTimeoutMillis());
+
+        client.execute(request("createEntry"), DEFAULTS);
+        assertSame(DEFAULTS, used.get());
+    }
+
+    @Test
+    void enrich_ShouldOpenCircuitAndFailFast_WhenAuditServiceKeepsFailing() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Client delegate = (request, options) -> {
+            calls.incrementAndGet();
+            return response(request, 503);
+        };
+        Client client = resilience.enrich(delegate);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(503, client.execute(request("createEntries"), DEFAULTS).status());
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, resilience.state());
+        assertThrows(ServiceUnavailableException.class, () -> client.execute(request("createEntries"), DEFAULTS));
+        assertEquals(4, calls.get());
+        assertEquals(1.0, meterRegistry.get(AuditClientResilience.REJECTED_COUNTER).tag("reason", "circuit_open")
+                .counter().count());
+        assertEquals(1.0, meterRegistry.get("resilience4j.circuitbreaker.state")
+                .tag("name", AuditClientResilience.NAME).tag("state", "open").gauge().value());
+    }
+
+    @Test
+    void enrich_ShouldRejectCallsBeyondBulkheadLimit() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Client delegate = (request, options) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response(request, 200);
+        };
+        Client client = resilience.enrich(delegate);
+
+        CompletableFuture<Response> inFlight = CompletableFuture.supplyAsync(() -> {
+            try {
+                return client.execute(request("getEntriesForUser"), DEFAULTS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ServiceUnavailableException.class, () -> client.execute(request("getEntriesForUser"), DEFAULTS));
+        release.countDown();
+        assertEquals(200, inFlight.get(5, TimeUnit.SECONDS).status());
+        assertEquals(1.0, meterRegistry.get(AuditClientResilience.REJECTED_COUNTER).tag("reason", "bulkhead_full")
+                .counter().count());
+        assertEquals(200, client.execute(request("getEntriesForUser"), DEFAULTS).status());
+    }
+
+    private Request request(String method) {
+        RequestTemplate template = new RequestTemplate();
+        template.methodMetadata(metadata.stream()
+                .filter(candidate -> candidate.method().getName().equals(method))
+                .findFirst()
+                .orElseThrow());
+        return Request.create(Request.HttpMethod.GET, "http://localhost/audit", new HashMap<>(), null,
+                StandardCharsets.UTF_8, template);
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder()
+                .request(request)
+                .status(status)
+                .headers(new HashMap<>())
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.ridemate.app.client.audit;
+
+import com.ridemate.app.client.audit.dto.CreateAuditEntryDTO;
+import com.ridemate.app.client.audit.repository.AuditOutboxRepository;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import com.ridemate.app.users.repository.UserRepository;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = AuditOutboxBenchmarkTest.JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AuditOutboxBenchmarkTest {
+
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 200);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 1000);
+    private static final long AUDIT_LATENCY_MS = Long.getLong("benchmark.auditLatencyMs", 5);
+
+    @Configuration
+    @EntityScan("com.ridemate.app")
+    @EnableJpaRepositories("com.ridemate.app")
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private RideRepository rideRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuditOutboxRepository auditOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private HttpServer auditServer;
+    private HttpClient httpClient;
+    private URI auditUri;
+    private User driver;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        auditServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        auditServer.createContext("/audit", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(AUDIT_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(201, -1);
+            exchange.close();
+        });
+        auditServer.start();
+        auditUri = URI.create("http://localhost:" + auditServer.getAddress().getPort() + "/audit");
+        httpClient = HttpClient.newHttpClient();
+
+        String name = "driver-" + UUID.randomUUID();
+        driver = new User(null, name, name + "@test.com", "secret");
+        driver.setRole(UserRole.DRIVER);
+        driver = userRepository.save(driver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditServer.stop(0);
+    }
+
+    @Test
+    void compareInlineAuditCallWithOutboxWrite() {
+        AuditPublisher publisher = new AuditPublisher(auditOutboxRepository,
+                new AuditOutboxDepth(auditOutboxRepository, new SimpleMeterRegistry(), 60000));
+
+        long[] inline = measure(() -> transactionTemplate.executeWithoutResult(status -> {
+            Ride ride = rideRepository.save(ride());
+            postInline(entry(ride));
+        }));
+        long[] outbox = measure(() -> transactionTemplate.executeWithoutResult(status -> {
+            Ride ride = rideRepository.save(ride());
+            publisher.publish(entry(ride));
+        }));
+
+        report("inline Feign-style call", inline);
+        report("transactional outbox", outbox);
+        assertTrue(auditOutboxRepository.count() >= ITERATIONS);
+    }
+
+    private long[] measure(Runnable write) {
+        for (int i = 0; i < WARMUP; i++) {
+            write.run();
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            write.run();
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private void postInline(CreateAuditEntryDTO dto) {
+        String json = "{\"userId\":\"%s\",\"actionType\":\"%s\",\"entityType\":\"%s\",\"entityId\":\"%s\"}"
+                .formatted(dto.getUserId(), dto.getActionType(), dto.getEntityType(), dto.getEntityId());
+        try {
+            httpClient.send(HttpRequest.newBuilder(auditUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void report(String name, long[] sorted) {
+        System.out.printf("%-24s p50=%8.3f ms  p99=%8.3f ms  max=%8.3f ms  (audit latency %d ms, n=%d)%n", name,
+                sorted[sorted.length / 2] / 1e6, sorted[(int) (sorted.length * 0.99)] / 1e6,
+                sorted[sorted.length - 1] / 1e6, AUDIT_LATENCY_MS, sorted.length);
+    }
+
+    private CreateAuditEntryDTO entry(Ride ride) {
+        return new CreateAuditEntryDTO(driver.getId(), "CREATE", "RIDE", ride.getId(), "Ride created");
+    }
+
+    private Ride ride() {
+        Ride ride = new Ride();
+        ride.setDriver(driver);
+        ride.setOrigin("Sofia");
+        ride.setDestination("Plovdiv");
+        ride.setDateTime(LocalDateTime.now().plusDays(1));
+        ride.setPrice(15.0);
+        ride.setSeatsAvailable(4);
+        ride.setSeatsTaken(0);
+        ride.setStatus(RideStatus.ACTIVE);
+        return ride;
+    }
+}
@@ -0,0 +1,209 @@
+package com.ridemate.app.client.audit;
+
+import com.ridemate.app.client.audit.dto.CreateAuditEntryDTO;
+import com.ridemate.app.client.audit.entity.AuditOutboxEntry;
+import com.ridemate.app.client.audit.repository.AuditOutboxRepository;
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditOutboxRelayTest {
+
+    @Mock
+    private AuditOutboxRepository auditOutboxRepository;
+
+    @Mock
+    private AuditClient auditClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditOutboxDepth depth;
+    private AuditOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        depth = new AuditOutboxDepth(auditOutboxRepository, meterRegistry, 60000);
+        relay = new AuditOutboxRelay(auditOutboxRepository, auditClient, depth, transactionManager, meterRegistry,
+                2, 60000, 60000, 30000);
+    }
+
+    @Test
+    void relay_ShouldSendEntriesInOrderAndDeleteThem() {
+        AuditOutboxEntry first = entry(1L);
+        AuditOutboxEntry second = entry(2L);
+        when(auditOutboxRepository.findClaimable(any(), eq(Limit.of(2))))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of());
+
+        relay.relay();
+
+        verify(auditClient, times(1)).createEntries(List.of(first.toDto(), second.toDto()));
+        verify(auditOutboxRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertNotNull(first.getClaimedUntil());
+        assertEquals(2.0, entries("sent"));
+    }
+
+    @Test
+    void relay_ShouldKeepCachedDepthInsteadOfCountingOnEveryScrape() {
+        AuditOutboxEntry first = entry(1L);
+        when(auditOutboxRepository.countByDeadLetteredAtIsNull()).thenReturn(3L);
+        when(auditOutboxRepository.findClaimable(any(), eq(Limit.of(2))))
+                .thenReturn(List.of(first))
+                .thenReturn(List.of());
+
+        relay.relay();
+        depth.added();
+        relay.relay();
+
+        assertEquals(3.0, meterRegistry.get(AuditOutboxDepth.GAUGE_NAME).gauge().value());
+        assertEquals(3.0, meterRegistry.get(AuditOutboxDepth.GAUGE_NAME).gauge().value());
+        verify(auditOutboxRepository, times(1)).countByDeadLetteredAtIsNull();
+        verify(auditOutboxRepository, never()).count();
+    }
+
+    @Test
+    void relay_ShouldDrainFullBatchesUntilOutboxIsEmpty() {
+        AuditOutboxEntry first = entry(1L);
+        AuditOutboxEntry second = entry(2L);
+        AuditOutboxEntry third = entry(3L);
+        when(auditOutboxRepository.findClaimable(any(), eq(Limit.of(2))))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        relay.relay();
+
+        verify(auditClient, times(1)).createEntries(List.of(first.toDto(), second.toDto()));
+        verify(auditClient, times(1)).createEntries(List.of(third.toDto()));
+        verify(transactionManager, times(4)).commit(any());
+        assertEquals(3.0, entries("sent"));
+    }
+
+    @Test
+    void relay_ShouldKeepEntriesAndBackOff_WhenAuditServiceFails() {
+        AuditOutboxEntry first = entry(1L);
+        when(auditOutboxRepository.findClaimable(any(), eq(Limit.of(2)))).thenReturn(List.of(first));
+        when(auditClient.createEntries(anyList())).thenThrow(new RuntimeException("audit-service down"));
+
+        relay.relay();
+        relay.relay();
+
+        verify(auditClient, times(1)).createEntries(anyList());
+        verify(auditOutboxRepository, never()).deleteAllByIdInBatch(any());
+        verify(auditOutboxRepository, times(1)).releaseFailed(List.of(1L), "audit-service down");
+        assertEquals(1.0, entries("failed"));
+    }
+
+    @Test
+    void relay_ShouldCallAuditServiceOutsideTheClaimTransaction() {
+        AuditOutboxEntry first = entry(1L);
+        when(auditOutboxRepository.findClaimable(any(), eq(Limit.of(2)))).thenReturn(List.of(first));
+        InOrder inOrder = inOrder(transactionManager, auditClient, auditOutboxRepository);
+
+        relay.relay();
+
+        inOrder.verify(auditOutboxRepository).findClaimable(any(), eq(Limit.of(2)));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(auditClient).createEntries(List.of(first.toDto()));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(auditOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void relay_ShouldKeepEntriesThroughLongOutage_AndDeliverOnceAuditServiceRecovers() {
+        meterRegistry = new SimpleMeterRegistry();
+        AuditOutboxRelay noBackoff = new AuditOutboxRelay(auditOutboxRepository, auditClient, depth,
+                transactionManager, meterRegistry, 2, 0, 0, 30000);
+        AuditOutboxEntry first = entry(1L);
+        when(auditOutboxRepository.findClaimable(any(), eq(Limit.of(2))))
+                .thenReturn(List.of(first));
+        doThrow(new RetryableException(503, "audit-service down", Request.HttpMethod.POST, (Long) null,
+                request())).when(auditClient).createEntries(anyList());
+
+        for (int i = 0; i < 50; i++) {
+            noBackoff.relay();
+        }
+        doReturn(null).when(auditClient).createEntries(anyList());
+        when(auditOutboxRepository.findClaimable(any(), eq(Limit.of(2))))
+                .thenReturn(List.of(first))
+                .thenReturn(List.of());
+        noBackoff.relay();
+
+        verify(auditOutboxRepository, times(50)).releaseFailed(List.of(1L), "audit-service down");
+        verify(auditOutboxRepository, never()).deadLetter(any(), any(), any());
+        verify(auditOutboxRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+        assertEquals(50.0, entries("failed"));
+        assertEquals(0.0, entries("dead_lettered"));
+        assertEquals(1.0, entries("sent"));
+    }
+
+    @Test
+    void relay_ShouldSplitRejectedBatchAndDeadLetterOnlyTheBadEntry() {
+        AuditOutboxEntry good = entry(1L);
+        AuditOutboxEntry bad = entry(2L);
+        when(auditOutboxRepository.findClaimable(any(), eq(Limit.of(2))))
+                .thenReturn(List.of(good, bad))
+                .thenReturn(List.of());
+        FeignException badRequest = badRequest();
+        doAnswer(invocation -> {
+            List<?> dtos = invocation.getArgument(0);
+            if (dtos.contains(bad.toDto())) {
+                throw badRequest;
+            }
+            return null;
+        }).when(auditClient).createEntries(anyList());
+
+        relay.relay();
+
+        verify(auditOutboxRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+        verify(auditOutboxRepository, times(1)).deadLetter(eq(List.of(2L)), any(), any());
+        verify(auditOutboxRepository, never()).releaseFailed(any(), any());
+        assertEquals(1.0, entries("sent"));
+        assertEquals(1.0, entries("dead_lettered"));
+        assertEquals(0.0, entries("failed"));
+    }
+
+    private static FeignException badRequest() {
+        return new FeignException.BadRequest("Invalid audit entry", request(), null, Map.of());
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.POST, "http://audit-service/api/audit/batch", Map.of(),
+                null, StandardCharsets.UTF_8, null);
+    }
+
+    private double entries(String result) {
+        return meterRegistry.get("ridemate.audit.entries").tag("result", result).functionCounter().count();
+    }
+
+    private static AuditOutboxEntry entry(Long id) {
+        AuditOutboxEntry entry = new AuditOutboxEntry(new CreateAuditEntryDTO(UUID.randomUUID(), "CREATE", "RIDE",
+                UUID.randomUUID(), "Ride created"));
+        entry.setId(id);
+        return entry;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ridemate.app.client.audit;
+
+import com.ridemate.app.client.audit.dto.CreateAuditEntryDTO;
+import com.ridemate.app.client.audit.entity.AuditOutboxEntry;
+import com.ridemate.app.client.audit.repository.AuditOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditPublisherTest {
+
+    @Mock
+    private AuditOutboxRepository auditOutboxRepository;
+
+    @Mock
+    private AuditOutboxDepth auditOutboxDepth;
+
+    @InjectMocks
+    private AuditPublisher auditPublisher;
+
+    @Test
+    void publish_ShouldWriteEntryToOutbox() {
+        CreateAuditEntryDTO dto = new CreateAuditEntryDTO(UUID.randomUUID(), "CREATE", "RIDE", UUID.randomUUID(),
+                "Ride created");
+
+        auditPublisher.publish(dto);
+
+        ArgumentCaptor<AuditOutboxEntry> captor = ArgumentCaptor.forClass(AuditOutboxEntry.class);
+        verify(auditOutboxRepository, times(1)).save(captor.capture());
+        assertEquals(dto, captor.getValue().toDto());
+        assertNotNull(captor.getValue().getCreatedAt());
+        verify(auditOutboxDepth, times(1)).added();
+    }
+}
@@ -0,0 +1,85 @@
+package com.ridemate.app.client.audit.repository;
+
+import com.ridemate.app.client.audit.dto.CreateAuditEntryDTO;
+import com.ridemate.app.client.audit.entity.AuditOutboxEntry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ContextConfiguration(classes = AuditOutboxRepositoryTest.JpaConfig.class)
+class AuditOutboxRepositoryTest {
+
+    @Configuration
+    @EntityScan("com.ridemate.app")
+    @EnableJpaRepositories("com.ridemate.app")
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private AuditOutboxRepository auditOutboxRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findClaimable_ShouldSkipEntriesClaimedByAnotherRelay() {
+        LocalDateTime now = LocalDateTime.now();
+        AuditOutboxEntry free = save(null);
+        save(now.plusSeconds(30));
+        AuditOutboxEntry expired = save(now.minusSeconds(1));
+
+        List<AuditOutboxEntry> claimable = auditOutboxRepository.findClaimable(now, Limit.of(10));
+
+        assertEquals(List.of(free.getId(), expired.getId()), claimable.stream().map(AuditOutboxEntry::getId).toList());
+    }
+
+    @Test
+    void releaseFailed_ShouldReleaseClaimWithoutCountingAnAttempt() {
+        AuditOutboxEntry entry = save(LocalDateTime.now().plusSeconds(30));
+
+        auditOutboxRepository.releaseFailed(List.of(entry.getId()), "audit-service down");
+        entityManager.clear();
+
+        AuditOutboxEntry released = auditOutboxRepository.findById(entry.getId()).orElseThrow();
+        assertEquals(0, released.getAttempts());
+        assertNull(released.getClaimedUntil());
+        assertNull(released.getDeadLetteredAt());
+        assertEquals("audit-service down", released.getLastError());
+    }
+
+    @Test
+    void deadLetter_ShouldCountTheRejectedAttemptAndStopClaimingTheEntry() {
+        LocalDateTime now = LocalDateTime.now();
+        AuditOutboxEntry rejected = save(now.plusSeconds(30));
+        AuditOutboxEntry pending = save(null);
+
+        assertEquals(1, auditOutboxRepository.deadLetter(List.of(rejected.getId()), now, "Invalid audit entry"));
+        entityManager.clear();
+
+        assertEquals(List.of(pending.getId()), auditOutboxRepository.findClaimable(now, Limit.of(10)).stream()
+                .map(AuditOutboxEntry::getId).toList());
+        AuditOutboxEntry deadLettered = auditOutboxRepository.findById(rejected.getId()).orElseThrow();
+        assertEquals(1, deadLettered.getAttempts());
+        assertEquals("Invalid audit entry", deadLettered.getLastError());
+    }
+
+    private AuditOutboxEntry save(LocalDateTime claimedUntil) {
+        AuditOutboxEntry entry = new AuditOutboxEntry(new CreateAuditEntryDTO(UUID.randomUUID(), "CREATE", "RIDE",
+                UUID.randomUUID(), "Ride created"));
+        entry.setClaimedUntil(claimedUntil);
+        return entityManager.persistAndFlush(entry);
+    }
+}
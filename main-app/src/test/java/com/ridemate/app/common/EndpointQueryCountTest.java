@@ -0,0 +1,154 @@
+package com.ridemate.app.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.security.CustomUserDetails;
+import com.ridemate.app.security.JwtUtil;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import com.ridemate.app.users.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "ridemate.audit.url=http://localhost:1",
+        "ridemate.audit.outbox.poll-interval-ms=3600000",
+        "logging.level.com.ridemate=WARN"
+})
+@AutoConfigureMockMvc
+class EndpointQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RideRepository rideRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String driver;
+    private String passenger;
+    private String admin;
+    private User adminUser;
+    private UUID rideId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User driverUser = user(UserRole.DRIVER);
+        driver = token(driverUser);
+        passenger = token(user(UserRole.USER));
+        adminUser = user(UserRole.ADMIN);
+        admin = token(adminUser);
+
+        Ride ride = new Ride();
+        ride.setDriver(driverUser);
+        ride.setOrigin("Sofia");
+        ride.setDestination("Plovdiv");
+        ride.setDateTime(LocalDateTime.now().plusDays(1));
+        ride.setPrice(10.0);
+        ride.setSeatsAvailable(3);
+        ride.setSeatsTaken(0);
+        ride.setStatus(RideStatus.ACTIVE);
+        rideId = rideRepository.save(ride).getId();
+
+        for (String token : new String[]{driver, passenger, admin}) {
+            mockMvc.perform(get("/api/v1/rides/page").header("Authorization", token)).andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void currentUserEndpoints_ShouldNotReloadThePrincipal() throws Exception {
+        assertEquals(1, queries(get("/api/v1/users/me"), passenger, "/api/v1/users/me"));
+        assertEquals(1, queries(get("/api/v1/bookings/mine"), passenger, "/api/v1/bookings/mine"));
+        assertEquals(1, queries(get("/api/v1/bookings/requests"), driver, "/api/v1/bookings/requests"));
+        assertEquals(2, queries(get("/api/v1/users/"), admin, "/api/v1/users/"));
+
+        MvcResult booked = mockMvc.perform(post("/api/v1/bookings").header("Authorization", passenger)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rideId\":\"" + rideId + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        UUID bookingId = UUID.fromString(objectMapper.readTree(booked.getResponse().getContentAsString())
+                .get("id").asText());
+        assertEquals(7, report("POST", "/api/v1/bookings"));
+
+        assertEquals(4, queries(put("/api/v1/bookings/" + bookingId + "/approve"), driver,
+                "/api/v1/bookings/{id}/approve"));
+        assertEquals(3, queries(put("/api/v1/rides/" + rideId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"origin\":\"Sofia\",\"destination\":\"Varna\",\"dateTime\":\""
+                        + LocalDateTime.now().plusDays(2).withNano(0) + "\",\"price\":12,\"seatsAvailable\":3}"),
+                driver, "/api/v1/rides/{id}"));
+    }
+
+    @Test
+    void adminEndpoint_ShouldDenyDemotedAdmin_WhileTokenAndCachedPrincipalStillSayAdmin() throws Exception {
+        mockMvc.perform(get("/api/v1/users/").header("Authorization", admin)).andExpect(status().isOk());
+
+        adminUser.setRole(UserRole.USER);
+        userRepository.save(adminUser);
+
+        mockMvc.perform(get("/api/v1/users/").header("Authorization", admin)).andExpect(status().isForbidden());
+    }
+
+    private long queries(MockHttpServletRequestBuilder request, String token, String uri) throws Exception {
+        String method = request.buildRequest(new MockServletContext()).getMethod();
+        double before = summary(method, uri);
+        mockMvc.perform(request.header("Authorization", token)).andExpect(status().isOk());
+        long queries = Math.round(summary(method, uri) - before);
+        System.out.printf("%-6s %-32s %d queries%n", method, uri, queries);
+        return queries;
+    }
+
+    private long report(String method, String uri) {
+        long queries = Math.round(summary(method, uri));
+        System.out.printf("%-6s %-32s %d queries%n", method, uri, queries);
+        return queries;
+    }
+
+    private double summary(String method, String uri) {
+        DistributionSummary summary = meterRegistry.find("ridemate.http.queries")
+                .tag("method", method)
+                .tag("uri", uri)
+                .summary();
+        return summary == null ? 0 : summary.totalAmount();
+    }
+
+    private User user(UserRole role) {
+        String name = role.name().toLowerCase() + "-" + UUID.randomUUID();
+        User user = new User(null, name, name + "@test.com", "secret");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private String token(User user) {
+        return "Bearer " + jwtUtil.generateToken(new CustomUserDetails(user));
+    }
+}
@@ -0,0 +1,70 @@
+package com.ridemate.app.common;
+
+import com.ridemate.app.users.entity.User;
+import com.ridemate.app.users.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ContextConfiguration(classes = QueryCountInspectorTest.JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryCountInspectorTest {
+
+    @Configuration
+    @EntityScan("com.ridemate.app")
+    @EnableJpaRepositories("com.ridemate.app")
+    @Import(QueryCountInspector.class)
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private QueryCountInspector queryCountInspector;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        String name = "user-" + UUID.randomUUID();
+        userId = userRepository.save(new User(null, name, name + "@test.com", "secret")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryCountInspector.stop();
+    }
+
+    @Test
+    void count_ShouldCountEveryRepeatedUserLookup() {
+        queryCountInspector.start();
+
+        for (int i = 0; i < 3; i++) {
+            userRepository.findById(userId).orElseThrow();
+        }
+
+        assertEquals(3, queryCountInspector.stop());
+    }
+
+    @Test
+    void count_ShouldIgnoreStatements_WhenNotStarted() {
+        userRepository.findById(userId).orElseThrow();
+
+        assertEquals(0, queryCountInspector.count());
+    }
+}
@@ -37,6 +37,24 @@ class GlobalExceptionHandlerTest {
         assertEquals("Conflict occurred", response.getBody());
     }
 
+    @Test
+    void handleServiceUnavailableException_ShouldReturnServiceUnavailable() {
+        ServiceUnavailableException ex = new ServiceUnavailableException("Audit service is unavailable");
+        ResponseEntity<String> response = exceptionHandler.handleServiceUnavailableException(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("Audit service is unavailable", response.getBody());
+    }
+
+    @Test
+    void handleBadRequestException_ShouldReturnBadRequest() {
+        BadRequestException ex = new BadRequestException("Invalid cursor");
+        ResponseEntity<String> response = exceptionHandler.handleBadRequestException(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid cursor", response.getBody());
+    }
+
     @Test
     void handleGeneralException_ShouldReturnInternalServerError() {
         Exception ex = new Exception("Unexpected error");
@@ -0,0 +1,99 @@
+package com.ridemate.app.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+class AuditServiceStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final double failureRate;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    AuditServiceStub(int port, long latencyMillis, double failureRate) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "audit-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/audit", this::handle);
+        server.start();
+    }
+
+    String url() {
+        return "http://localhost:" + server.getAddress().getPort() + "/audit";
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long failures() {
+        return failures.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            failures.incrementAndGet();
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        if (method.equals("DELETE")) {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        } else if (method.equals("GET")) {
+            respond(exchange, 200, "[]");
+        } else if (path.endsWith("/batch")) {
+            respond(exchange, 201, "{\"created\":" + countEntries(body) + "}");
+        } else {
+            respond(exchange, 201, "{}");
+        }
+    }
+
+    private static int countEntries(byte[] body) {
+        String json = new String(body, StandardCharsets.UTF_8);
+        int count = 0;
+        for (int i = json.indexOf("\"userId\""); i >= 0; i = json.indexOf("\"userId\"", i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,341 @@
+package com.ridemate.app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.rides.search.RideSearchIndex;
+import com.ridemate.app.security.CustomUserDetails;
+import com.ridemate.app.security.JwtUtil;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import com.ridemate.app.users.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "ridemate.audit.outbox.poll-interval-ms=100",
+        "ridemate.audit.outbox.initial-backoff-ms=200",
+        "ridemate.audit.outbox.max-backoff-ms=2000",
+        "logging.level.com.ridemate=WARN"
+})
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class BookingLoadTest {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "25"));
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 60);
+    private static final int RIDES = Integer.getInteger("loadtest.rides", 1_000);
+    private static final int DRIVERS = Integer.getInteger("loadtest.drivers", 100);
+    private static final int PASSENGERS = Integer.getInteger("loadtest.passengers", 1_000);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("loadtest.maxInFlight", 2_000);
+    private static final String MIX = System.getProperty("loadtest.mix", "list=50,book=25,decide=15,pdf=10");
+    private static final long AUDIT_LATENCY_MS = Long.getLong("loadtest.auditLatencyMs", 20);
+    private static final double AUDIT_FAILURE_RATE =
+            Double.parseDouble(System.getProperty("loadtest.auditFailureRate", "0.05"));
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+    private static AuditServiceStub auditService;
+
+    @DynamicPropertySource
+    static void auditServiceUrl(DynamicPropertyRegistry registry) throws IOException {
+        auditService = new AuditServiceStub(Integer.getInteger("loadtest.auditPort", 0), AUDIT_LATENCY_MS,
+                AUDIT_FAILURE_RATE);
+        registry.add("ridemate.audit.url", auditService::url);
+    }
+
+    @AfterAll
+    static void stopAuditService() {
+        auditService.close();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RideRepository rideRepository;
+
+    @Autowired
+    private RideSearchIndex rideSearchIndex;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random = new Random(42);
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<PendingBooking> pendingBookings = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedDeque<UUID> approvedBookings = new ConcurrentLinkedDeque<>();
+    private final Map<UUID, String> driverTokens = new ConcurrentHashMap<>();
+    private final List<String> passengerTokens = new ArrayList<>();
+    private final List<UUID> rideIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        List<User> drivers = new ArrayList<>();
+        for (int i = 0; i < DRIVERS; i++) {
+            drivers.add(user("driver", i, UserRole.DRIVER));
+        }
+        drivers.forEach(driver -> driverTokens.put(driver.getId(), token(driver)));
+        for (int i = 0; i < PASSENGERS; i++) {
+            passengerTokens.add(token(user("passenger", i, UserRole.USER)));
+        }
+        String[] cities = {"Sofia", "Plovdiv", "Varna", "Burgas", "Ruse", "Stara Zagora", "Pleven", "Veliko Tarnovo"};
+        List<Ride> rides = new ArrayList<>(RIDES);
+        for (int i = 0; i < RIDES; i++) {
+            Ride ride = new Ride();
+            ride.setDriver(drivers.get(i % drivers.size()));
+            ride.setOrigin(cities[random.nextInt(cities.length)]);
+            ride.setDestination(cities[random.nextInt(cities.length)]);
+            ride.setDateTime(LocalDateTime.now().plusHours(1 + random.nextInt(24 * 30)));
+            ride.setPrice(5.0 + random.nextInt(40));
+            ride.setSeatsAvailable(1 + random.nextInt(6));
+            ride.setSeatsTaken(0);
+            ride.setStatus(RideStatus.ACTIVE);
+            rides.add(ride);
+        }
+        rideRepository.saveAll(rides).forEach(ride -> rideIds.add(ride.getId()));
+        rideSearchIndex.rebuild();
+    }
+
+    @Test
+    void openModelBookingStorm() throws Exception {
+        Map<String, Integer> mix = parseMix(MIX);
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / RATE);
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            String operation = pick(mix, totalWeight);
+            boolean measured = intended >= measureFrom;
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    stats(operation).record(System.nanoTime() - intended, 0);
+                }
+                continue;
+            }
+            dispatch(operation, intended, measured).whenComplete((ignored, failure) -> inFlight.release());
+        }
+        if (!inFlight.tryAcquire(MAX_IN_FLIGHT, 60, TimeUnit.SECONDS)) {
+            fail("Requests still in flight 60s after the run ended");
+        }
+
+        report(DURATION_SECONDS);
+        assertTrue(stats("list").count() > 0);
+        assertTrue(auditService.requests() > 0, "audit-service stub never received the outbox relay");
+    }
+
+    private CompletableFuture<?> dispatch(String operation, long intended, boolean measured) {
+        switch (operation) {
+            case "book" -> {
+                UUID rideId = rideIds.get(random.nextInt(rideIds.size()));
+                String body = "{\"rideId\":\"" + rideId + "\"}";
+                return send("book", passengerToken(), HttpRequest.newBuilder(uri("/api/v1/bookings"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)), intended, measured)
+                        .thenAccept(response -> {
+                            if (response != null && response.statusCode() == 200) {
+                                pendingBookings.add(pendingBooking(response.body()));
+                            }
+                        });
+            }
+            case "decide" -> {
+                PendingBooking booking = pendingBookings.poll();
+                if (booking == null) {
+                    return dispatch("book", intended, measured);
+                }
+                String decision = random.nextInt(10) < 7 ? "approve" : "reject";
+                return send(decision, driverTokens.get(booking.driverId()),
+                        HttpRequest.newBuilder(uri("/api/v1/bookings/" + booking.id() + "/" + decision))
+                                .PUT(HttpRequest.BodyPublishers.noBody()), intended, measured)
+                        .thenAccept(response -> {
+                            if (response != null && response.statusCode() == 200 && decision.equals("approve")) {
+                                approvedBookings.addFirst(booking.id());
+                                if (approvedBookings.size() > 1_000) {
+                                    approvedBookings.pollLast();
+                                }
+                            }
+                        });
+            }
+            case "pdf" -> {
+                UUID bookingId = approvedBookings.peekFirst();
+                if (bookingId == null) {
+                    return dispatch("book", intended, measured);
+                }
+                return send("pdf", passengerToken(),
+                        HttpRequest.newBuilder(uri("/api/v1/pdf/download/" + bookingId)).GET(), intended, measured);
+            }
+            case "activity" -> {
+                return send("activity", passengerToken(),
+                        HttpRequest.newBuilder(uri("/api/v1/users/my-activity")).GET(), intended, measured);
+            }
+            default -> {
+                return send("list", passengerToken(), HttpRequest.newBuilder(uri("/api/v1/rides/")).GET(),
+                        intended, measured);
+            }
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(String name, String token,
+            HttpRequest.Builder request, long intended, boolean measured) {
+        return httpClient.sendAsync(request.header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> {
+                    if (measured) {
+                        stats(name).record(System.nanoTime() - intended, failure == null ? response.statusCode() : 0);
+                    }
+                    return failure == null ? response : null;
+                });
+    }
+
+    private void report(int seconds) throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%nOpen-model load: %.0f req/s for %ds (audit latency %d ms, failure rate %.2f, %s threads)%n",
+                RATE, seconds, AUDIT_LATENCY_MS, AUDIT_FAILURE_RATE, threadMode());
+        System.out.printf("%-8s %8s %10s %9s %9s %9s %9s %8s%n", "endpoint", "count", "req/s", "p50 ms", "p99 ms",
+                "p999 ms", "max ms", "errors");
+        for (EndpointStats endpoint : stats.values().stream()
+                .sorted(Comparator.comparing(EndpointStats::name)).toList()) {
+            double throughput = (double) endpoint.count() / seconds;
+            System.out.printf("%-8s %8d %10.1f %9.2f %9.2f %9.2f %9.2f %7.2f%%%n", endpoint.name(), endpoint.count(),
+                    throughput, endpoint.percentileMillis(50), endpoint.percentileMillis(99),
+                    endpoint.percentileMillis(99.9), endpoint.maxMillis(), endpoint.errorRate() * 100);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", endpoint.count());
+            row.put("throughputPerSecond", throughput);
+            row.put("p50Ms", endpoint.percentileMillis(50));
+            row.put("p99Ms", endpoint.percentileMillis(99));
+            row.put("p999Ms", endpoint.percentileMillis(99.9));
+            row.put("maxMs", endpoint.maxMillis());
+            row.put("errorRate", endpoint.errorRate());
+            row.put("statuses", endpoint.statuses());
+            endpoints.put(endpoint.name(), row);
+        }
+        System.out.printf("audit-service stub: %d requests, %d injected failures%n", auditService.requests(),
+                auditService.failures());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("ratePerSecond", RATE);
+        report.put("durationSeconds", seconds);
+        report.put("auditLatencyMs", AUDIT_LATENCY_MS);
+        report.put("auditFailureRate", AUDIT_FAILURE_RATE);
+        report.put("auditRequests", auditService.requests());
+        report.put("threads", threadMode());
+        report.put("endpoints", endpoints);
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+    }
+
+    private EndpointStats stats(String name) {
+        return stats.computeIfAbsent(name, EndpointStats::new);
+    }
+
+    private PendingBooking pendingBooking(String body) {
+        try {
+            JsonNode booking = objectMapper.readTree(body);
+            return new PendingBooking(UUID.fromString(booking.get("id").asText()),
+                    UUID.fromString(booking.get("ride").get("driverId").asText()));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String pick(Map<String, Integer> mix, int totalWeight) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty traffic mix");
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private String threadMode() {
+        return virtualThreads ? "virtual" : "platform";
+    }
+
+    private String passengerToken() {
+        return passengerTokens.get(random.nextInt(passengerTokens.size()));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private User user(String prefix, int index, UserRole role) {
+        String name = prefix + "-" + index + "-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User(null, name, name + "@loadtest.com", "not-used");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private String token(User user) {
+        return jwtUtil.generateToken(new CustomUserDetails(user));
+    }
+
+    private record PendingBooking(UUID id, UUID driverId) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.ridemate.app.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        statuses.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet();
+        if (status < 200 || status >= 400) {
+            errors.increment();
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    long count() {
+        return latencies.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double errorRate() {
+        return count() == 0 ? 0 : (double) errors() / count();
+    }
+
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    double maxMillis() {
+        return latencies.getMaxValue() / 1_000.0;
+    }
+
+    Map<Integer, AtomicLong> statuses() {
+        return statuses;
+    }
+}
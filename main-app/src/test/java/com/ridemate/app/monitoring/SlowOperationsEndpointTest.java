@@ -0,0 +1,31 @@
+package com.ridemate.app.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowOperationsEndpointTest {
+
+    @Test
+    void slowOperations_ShouldRankBySlowestCallAndApplyLimit() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MethodMetrics methodMetrics = new MethodMetrics(meterRegistry, false);
+        methodMetrics.timer("RideService", "getAllRides", "success").record(Duration.ofMillis(40));
+        methodMetrics.timer("PdfService", "streamPdf", "success").record(Duration.ofMillis(250));
+        methodMetrics.timer("BookingService", "createBooking", "success").record(Duration.ofMillis(5));
+        methodMetrics.timer("UserService", "getUser", "success");
+        SlowOperationsEndpoint endpoint = new SlowOperationsEndpoint(meterRegistry, 2);
+
+        List<SlowOperationsEndpoint.SlowOperation> slowest = endpoint.slowOperations(null);
+
+        assertEquals(2, slowest.size());
+        assertEquals("PdfService.streamPdf", slowest.get(0).operation());
+        assertEquals(250.0, slowest.get(0).maxMs(), 0.001);
+        assertEquals("RideService.getAllRides", slowest.get(1).operation());
+        assertEquals(3, endpoint.slowOperations(10).size());
+    }
+}
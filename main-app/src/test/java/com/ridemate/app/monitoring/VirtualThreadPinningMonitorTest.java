@@ -0,0 +1,64 @@
+package com.ridemate.app.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    void site_ShouldPreferFirstApplicationFrame() {
+        List<String> frames = List.of("java.lang.Object.wait0:-1",
+                "com.ridemate.app.rides.search.RideSearchIndex.rebuild:72",
+                "com.ridemate.app.rides.service.RideService.getAllRides:40");
+
+        assertEquals("com.ridemate.app.rides.search.RideSearchIndex.rebuild", VirtualThreadPinningMonitor.site(frames));
+        assertEquals("java.lang.Object.wait0", VirtualThreadPinningMonitor.site(frames.subList(0, 1)));
+        assertEquals("unknown", VirtualThreadPinningMonitor.site(List.of()));
+    }
+
+    @Test
+    void record_ShouldCountPinningPerSite() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, 20, 8);
+
+        monitor.record("com.ridemate.app.pdf.PdfCache.toMemory", Duration.ofMillis(35), List.of());
+        monitor.record("com.ridemate.app.pdf.PdfCache.toMemory", Duration.ofMillis(50), List.of());
+
+        assertEquals(2.0, meterRegistry.get(VirtualThreadPinningMonitor.COUNTER_NAME)
+                .tag("site", "com.ridemate.app.pdf.PdfCache.toMemory").counter().count(), 0.001);
+    }
+
+    @Test
+    void start_ShouldCountPinnedVirtualThreads() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, 20, 8);
+        Object lock = new Object();
+
+        monitor.start();
+        try {
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (meterRegistry.find(VirtualThreadPinningMonitor.COUNTER_NAME).counter() == null
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+        } finally {
+            monitor.stop();
+        }
+
+        assertNotNull(meterRegistry.find(VirtualThreadPinningMonitor.COUNTER_NAME).counter());
+    }
+}
@@ -0,0 +1,177 @@
+package com.ridemate.app.pdf;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private final UUID bookingId = UUID.randomUUID();
+
+    @Test
+    void write_ShouldRenderOnceAndServeFromMemory() throws IOException {
+        PdfCache cache = new PdfCache(directory, 1024, 1024, 1 << 20, 100);
+
+        assertEquals("pdf-a", write(cache, "a"));
+        assertEquals("pdf-a", write(cache, "a"));
+
+        assertEquals(1, renders.get());
+        assertTrue(cache.inMemory("a"));
+        assertTrue(cache.onDisk("a"));
+    }
+
+    @Test
+    void write_ShouldServeLargeEntriesFromDisk() throws IOException {
+        PdfCache cache = new PdfCache(directory, 1024, 0, 1 << 20, 100);
+
+        write(cache, "a");
+        assertEquals("pdf-a", write(cache, "a"));
+
+        assertEquals(1, renders.get());
+        assertFalse(cache.inMemory("a"));
+        assertTrue(cache.onDisk("a"));
+    }
+
+    @Test
+    void write_ShouldRerender_WhenFileWasRemovedBehindTheIndex() throws IOException {
+        PdfCache cache = new PdfCache(directory, 1024, 0, 1 << 20, 100);
+        write(cache, "a");
+        Files.delete(directory.resolve("a.pdf"));
+
+        assertEquals("pdf-a", write(cache, "a"));
+
+        assertEquals(2, renders.get());
+        assertTrue(cache.onDisk("a"));
+    }
+
+    @Test
+    void write_ShouldBoundMemoryTierAndFallBackToDisk() throws IOException {
+        PdfCache cache = new PdfCache(directory, 8, 1024, 1 << 20, 100);
+
+        write(cache, "a", UUID.randomUUID());
+        write(cache, "b", UUID.randomUUID());
+
+        assertFalse(cache.inMemory("a"));
+        assertTrue(cache.inMemory("b"));
+        assertTrue(cache.onDisk("a"));
+    }
+
+    @Test
+    void write_ShouldDropPreviousContent_WhenBookingContentChanges() throws IOException {
+        PdfCache cache = new PdfCache(directory, 1024, 1024, 1 << 20, 100);
+
+        write(cache, "a");
+        write(cache, "b");
+
+        assertFalse(cache.inMemory("a"));
+        assertFalse(cache.onDisk("a"));
+        assertTrue(cache.onDisk("b"));
+    }
+
+    @Test
+    void bookingChanged_ShouldEvictBothTiers() throws IOException {
+        PdfCache cache = new PdfCache(directory, 1024, 1024, 1 << 20, 100);
+        write(cache, "a");
+
+        cache.bookingChanged(bookingId);
+
+        assertFalse(cache.inMemory("a"));
+        assertFalse(cache.onDisk("a"));
+        write(cache, "a");
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void write_ShouldEvictLeastRecentlyUsedFiles_WhenDiskTierHasTooManyEntries() throws IOException {
+        PdfCache cache = new PdfCache(directory, 1024, 0, 1 << 20, 2);
+
+        write(cache, "a", UUID.randomUUID());
+        write(cache, "b", UUID.randomUUID());
+        write(cache, "a", UUID.randomUUID());
+        write(cache, "c", UUID.randomUUID());
+
+        assertTrue(cache.onDisk("a"));
+        assertFalse(cache.onDisk("b"));
+        assertTrue(cache.onDisk("c"));
+        assertEquals(2, cache.diskEntries());
+    }
+
+    @Test
+    void write_ShouldBoundDiskTierByBytes() throws IOException {
+        PdfCache cache = new PdfCache(directory, 1024, 0, 10, 100);
+
+        write(cache, "a", UUID.randomUUID());
+        write(cache, "b", UUID.randomUUID());
+        write(cache, "c", UUID.randomUUID());
+
+        assertFalse(cache.onDisk("a"));
+        assertTrue(cache.onDisk("b"));
+        assertTrue(cache.onDisk("c"));
+        assertEquals(10, cache.diskBytes());
+    }
+
+    @Test
+    void constructor_ShouldIndexFilesLeftByPreviousRunAndDropPartialRenders() throws IOException {
+        write(new PdfCache(directory, 1024, 1024, 1 << 20, 100), "a");
+        Path partial = Files.createFile(directory.resolve("render-123.tmp"));
+
+        PdfCache restarted = new PdfCache(directory, 1024, 1024, 1 << 20, 100);
+
+        assertFalse(Files.exists(partial));
+        assertEquals(1, restarted.diskEntries());
+        assertEquals("pdf-a", write(restarted, "a"));
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    void constructor_ShouldTrimOversizedDirectoryOnStartup() throws IOException {
+        PdfCache cache = new PdfCache(directory, 1024, 0, 1 << 20, 100);
+        write(cache, "a", UUID.randomUUID());
+        write(cache, "b", UUID.randomUUID());
+        Files.setLastModifiedTime(directory.resolve("a.pdf"), FileTime.fromMillis(1_000));
+
+        PdfCache restarted = new PdfCache(directory, 1024, 0, 1 << 20, 1);
+
+        assertEquals(1, restarted.diskEntries());
+        assertFalse(restarted.onDisk("a"));
+        assertTrue(restarted.onDisk("b"));
+    }
+
+    private String write(PdfCache cache, String key) throws IOException {
+        return write(cache, key, bookingId);
+    }
+
+    private String write(PdfCache cache, String key, UUID booking) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.write(key, booking, out, renderer("pdf-" + key));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Consumer<OutputStream> renderer(String content) {
+        return out -> {
+            renders.incrementAndGet();
+            try {
+                out.write(content.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
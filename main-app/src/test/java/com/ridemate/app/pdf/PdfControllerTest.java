@@ -0,0 +1,126 @@
+package com.ridemate.app.pdf;
+
+import com.ridemate.app.bookings.BookingStatus;
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.bookings.repository.BookingRepository;
+import com.ridemate.app.exceptions.GlobalExceptionHandler;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.users.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class PdfControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private PdfService pdfService;
+
+    @TempDir
+    Path cacheDirectory;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pdfService, "pdfCache", new PdfCache(cacheDirectory, 1 << 20, 1 << 16, 1 << 24, 100));
+        mockMvc = MockMvcBuilders.standaloneSetup(new PdfController(pdfService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void downloadPdf_ShouldStreamPdfWithoutContentLength() throws Exception {
+        UUID bookingId = UUID.randomUUID();
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking(bookingId)));
+
+        MvcResult started = mockMvc.perform(get("/api/v1/pdf/download/{bookingId}", bookingId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=booking-" + bookingId + ".pdf"))
+                .andExpect(header().doesNotExist("Content-Length"))
+                .andExpect(header().exists("ETag"))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        assertEquals("%PDF", new String(Arrays.copyOf(body, 4), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void downloadPdf_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        UUID bookingId = UUID.randomUUID();
+        Booking booking = booking(bookingId);
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        String eTag = "\"" + pdfService.contentHash(booking) + "\"";
+
+        mockMvc.perform(get("/api/v1/pdf/download/{bookingId}", bookingId).header("If-None-Match", eTag))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag));
+    }
+
+    @Test
+    void downloadPdf_ShouldReturnNewETag_WhenBookingStatusChanges() throws Exception {
+        UUID bookingId = UUID.randomUUID();
+        Booking booking = booking(bookingId);
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        String eTag = "\"" + pdfService.contentHash(booking) + "\"";
+        booking.setStatus(BookingStatus.CANCELLED);
+
+        mockMvc.perform(get("/api/v1/pdf/download/{bookingId}", bookingId).header("If-None-Match", eTag))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void downloadPdf_ShouldReturnNotFound_BeforeStreaming() throws Exception {
+        UUID bookingId = UUID.randomUUID();
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/pdf/download/{bookingId}", bookingId))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound());
+    }
+
+    private Booking booking(UUID bookingId) {
+        User driver = new User();
+        driver.setUsername("test-driver");
+        Ride ride = new Ride();
+        ride.setPrice(25.50);
+        ride.setDriver(driver);
+        Booking booking = new Booking();
+        booking.setId(bookingId);
+        booking.setStatus(BookingStatus.APPROVED);
+        booking.setCreatedAt(LocalDateTime.now());
+        booking.setRide(ride);
+        return booking;
+    }
+}
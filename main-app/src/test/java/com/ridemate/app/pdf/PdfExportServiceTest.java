@@ -0,0 +1,194 @@
+package com.ridemate.app.pdf;
+
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.bookings.repository.BookingRepository;
+import com.ridemate.app.exceptions.AccessDeniedException;
+import com.ridemate.app.exceptions.ConflictException;
+import com.ridemate.app.exceptions.ResourceNotFoundException;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.security.CustomUserDetails;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PdfExportServiceTest {
+
+    @Mock
+    private PdfService pdfService;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @TempDir
+    Path directory;
+
+    private PdfExportService pdfExportService;
+    private User driver;
+    private CustomUserDetails currentUser;
+
+    @BeforeEach
+    void setUp() {
+        pdfExportService = new PdfExportService(pdfService, bookingRepository, directory,
+                4, 2, 1, 1, 10, 3_600_000);
+        driver = user(UserRole.DRIVER);
+        currentUser = new CustomUserDetails(driver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pdfExportService.shutdown();
+    }
+
+    @Test
+    void submit_ShouldZipAllBookingsWithBoundedConcurrency() throws Exception {
+        List<Booking> bookings = List.of(booking(driver), booking(driver), booking(driver), booking(driver),
+                booking(driver));
+        when(bookingRepository.findByRideDriverId(driver.getId())).thenReturn(bookings);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(invocation -> {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            Thread.sleep(20);
+            invocation.<OutputStream>getArgument(1).write("%PDF".getBytes());
+            running.decrementAndGet();
+            return null;
+        }).when(pdfService).writePdf(any(), any());
+
+        PdfExportJob job = awaitFinished(pdfExportService.submit(currentUser, null));
+
+        assertEquals(PdfExportStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getCompleted());
+        assertEquals(0, job.getFailed());
+        assertTrue(maxRunning.get() <= 2);
+        Set<String> entries = new HashSet<>();
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(
+                pdfExportService.getExport(currentUser, job.getId())))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+                assertArrayEquals("%PDF".getBytes(), zip.readAllBytes());
+            }
+        }
+        assertEquals(5, entries.size());
+        assertTrue(entries.contains("booking-" + bookings.get(0).getId() + ".pdf"));
+        verify(pdfService, never()).streamPdf(any(), anyString(), any());
+    }
+
+    @Test
+    void submit_ShouldSkipFailedRenders() throws Exception {
+        Booking broken = booking(driver);
+        Booking ok = booking(driver);
+        when(bookingRepository.findByIdIn(any())).thenReturn(List.of(broken, ok));
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) == broken) {
+                throw new IllegalStateException("boom");
+            }
+            return null;
+        }).when(pdfService).writePdf(any(), any());
+
+        PdfExportJob job = awaitFinished(pdfExportService.submit(currentUser, List.of(broken.getId(), ok.getId())));
+
+        assertEquals(PdfExportStatus.COMPLETED, job.getStatus());
+        assertEquals(1, job.getCompleted());
+        assertEquals(1, job.getFailed());
+    }
+
+    @Test
+    void submit_ShouldReject_WhenBookingBelongsToAnotherDriver() {
+        Booking foreign = booking(user(UserRole.DRIVER));
+        when(bookingRepository.findByIdIn(any())).thenReturn(List.of(foreign));
+
+        assertThrows(AccessDeniedException.class,
+                () -> pdfExportService.submit(currentUser, List.of(foreign.getId())));
+    }
+
+    @Test
+    void submit_ShouldThrow_WhenBookingMissing() {
+        when(bookingRepository.findByIdIn(any())).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> pdfExportService.submit(currentUser, List.of(UUID.randomUUID())));
+    }
+
+    @Test
+    void submit_ShouldReject_WhenRegularUser() {
+        User regularUser = user(UserRole.USER);
+        CustomUserDetails userDetails = new CustomUserDetails(regularUser);
+
+        assertThrows(AccessDeniedException.class, () -> pdfExportService.submit(userDetails, null));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void getJob_ShouldHideJobsOfOtherUsers() throws Exception {
+        when(bookingRepository.findByRideDriverId(driver.getId())).thenReturn(List.of(booking(driver)));
+        PdfExportJob job = awaitFinished(pdfExportService.submit(currentUser, null));
+
+        CustomUserDetails other = new CustomUserDetails(user(UserRole.ADMIN));
+        assertThrows(ResourceNotFoundException.class, () -> pdfExportService.getJob(other, job.getId()));
+        assertSame(job, pdfExportService.getJob(currentUser, job.getId()));
+    }
+
+    @Test
+    void getExport_ShouldThrow_WhenJobNotFinished() throws Exception {
+        when(bookingRepository.findByRideDriverId(driver.getId())).thenReturn(List.of(booking(driver)));
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return null;
+        }).when(pdfService).writePdf(any(), any());
+
+        PdfExportJob job = pdfExportService.submit(currentUser, null);
+
+        assertThrows(ConflictException.class, () -> pdfExportService.getExport(currentUser, job.getId()));
+        awaitFinished(job);
+    }
+
+    private static PdfExportJob awaitFinished(PdfExportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (job.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNotNull(job.getFinishedAt(), "export did not finish");
+        return job;
+    }
+
+    private static User user(UserRole role) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRole(role);
+        return user;
+    }
+
+    private static Booking booking(User driver) {
+        Ride ride = new Ride();
+        ride.setId(UUID.randomUUID());
+        ride.setDriver(driver);
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setRide(ride);
+        return booking;
+    }
+}
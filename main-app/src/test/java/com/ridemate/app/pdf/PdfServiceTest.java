@@ -6,16 +6,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
 import com.ridemate.app.bookings.BookingStatus;
 import com.ridemate.app.bookings.entity.Booking;
 import com.ridemate.app.bookings.repository.BookingRepository;
+import com.ridemate.app.exceptions.ResourceNotFoundException;
 import com.ridemate.app.rides.entity.Ride;
 import com.ridemate.app.users.entity.User;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -52,4 +58,63 @@ class PdfServiceTest {
         String pdfHeader = new String(header);
         assertEquals("%PDF", pdfHeader);
     }
+
+    @Test
+    void writePdf_ShouldWriteToStreamWithoutClosingIt() {
+        User driver = new User();
+        driver.setUsername("test-driver");
+        Ride ride = new Ride();
+        ride.setPrice(25.50);
+        ride.setDriver(driver);
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setStatus(BookingStatus.APPROVED);
+        booking.setRide(ride);
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        pdfService.writePdf(booking, out);
+
+        assertFalse(closed.get());
+        assertEquals("%PDF", new String(out.toByteArray(), 0, 4));
+    }
+
+    @Test
+    void writePdf_ShouldFillBookingFieldsIntoTemplate() throws Exception {
+        User driver = new User();
+        driver.setUsername("test-driver");
+        Ride ride = new Ride();
+        ride.setPrice(25.50);
+        ride.setDriver(driver);
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setStatus(BookingStatus.APPROVED);
+        booking.setRide(ride);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        pdfService.writePdf(booking, out);
+
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(out.toByteArray())))) {
+            String text = PdfTextExtractor.getTextFromPage(pdf.getFirstPage());
+            assertTrue(text.contains("Booking Confirmation"));
+            assertTrue(text.contains(booking.getId().toString()));
+            assertTrue(text.contains("APPROVED"));
+            assertTrue(text.contains("25.5"));
+            assertTrue(text.contains("test-driver"));
+            assertTrue(text.contains("Thank you for choosing RideMate!"));
+        }
+    }
+
+    @Test
+    void createPdf_ShouldThrowNotFound_WhenBookingMissing() {
+        UUID bookingId = UUID.randomUUID();
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> pdfService.createPdf(bookingId));
+    }
 }
@@ -0,0 +1,113 @@
+package com.ridemate.app.rides.cache;
+
+import com.ridemate.app.rides.entity.Ride;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RideCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RideCache rideCache;
+
+    private final Ride rideA = ride();
+    private final Ride rideB = ride();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rideCache = new RideCache(new ConcurrentMapCacheManager(), meterRegistry);
+    }
+
+    @Test
+    void getRide_ShouldLoadOnceAndCountHitsAndMisses() {
+        AtomicInteger loads = new AtomicInteger();
+
+        rideCache.getRide(rideA.getId(), counting(loads, rideA));
+        rideCache.getRide(rideA.getId(), counting(loads, rideA));
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+    }
+
+    @Test
+    void rideChanged_ShouldEvictOnlyThatRideEntry() {
+        AtomicInteger loads = new AtomicInteger();
+        rideCache.getRide(rideA.getId(), counting(loads, rideA));
+        rideCache.getRide(rideB.getId(), counting(loads, rideB));
+
+        rideCache.rideChanged(rideA.getId());
+        rideCache.getRide(rideA.getId(), counting(loads, rideA));
+        rideCache.getRide(rideB.getId(), counting(loads, rideB));
+
+        assertEquals(3, loads.get());
+        assertEquals(1.0, evictions());
+        assertEquals(1.0, gets("hit"));
+    }
+
+    @Test
+    void rideChanged_ShouldNotCountEvictionOfUncachedRide() {
+        rideCache.rideChanged(rideA.getId());
+
+        assertEquals(0.0, evictions());
+    }
+
+    @Test
+    void getRide_ShouldNotCacheResultLoadedDuringInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+        rideCache.getRide(rideA.getId(), () -> {
+            loads.incrementAndGet();
+            rideCache.rideChanged(rideA.getId());
+            return rideA;
+        });
+
+        rideCache.getRide(rideA.getId(), counting(loads, rideA));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getRide_ShouldStillCache_WhenAnotherRideChangesDuringLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        rideCache.getRide(rideA.getId(), () -> {
+            loads.incrementAndGet();
+            rideCache.rideChanged(rideB.getId());
+            return rideA;
+        });
+
+        rideCache.getRide(rideA.getId(), counting(loads, rideA));
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, gets("hit"));
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("ridemate.cache.gets").tag("cache", RideCache.RIDES).tag("result", result)
+                .functionCounter().count();
+    }
+
+    private double evictions() {
+        return meterRegistry.get("ridemate.cache.evictions").tag("cache", RideCache.RIDES).functionCounter().count();
+    }
+
+    private static <T> Supplier<T> counting(AtomicInteger loads, T value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+    private static Ride ride() {
+        Ride ride = new Ride();
+        ride.setId(UUID.randomUUID());
+        return ride;
+    }
+}
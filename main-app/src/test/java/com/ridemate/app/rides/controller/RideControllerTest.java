@@ -2,6 +2,9 @@ package com.ridemate.app.rides.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ridemate.app.rides.dto.RideDto;
+import com.ridemate.app.rides.dto.RidePageResponse;
+import com.ridemate.app.rides.dto.RideResponse;
+import com.ridemate.app.rides.dto.RideSearchCriteria;
 import com.ridemate.app.rides.entity.Ride;
 import com.ridemate.app.rides.service.RideService;
 import com.ridemate.app.security.CustomUserDetails;
@@ -92,6 +95,50 @@ class RideControllerTest {
         verify(rideService, times(1)).getAllRides(any(CustomUserDetails.class));
     }
 
+    @Test
+    void searchRides_ShouldPassFiltersToService() throws Exception {
+        Ride ride = new Ride();
+        ride.setId(UUID.randomUUID());
+        User driver = new User();
+        driver.setId(UUID.randomUUID());
+        ride.setDriver(driver);
+        ride.setOrigin("Sofia");
+        ride.setDestination("Plovdiv");
+
+        RideSearchCriteria expected = new RideSearchCriteria("Sofia", "Plovdiv",
+                LocalDateTime.of(2030, 1, 1, 8, 0), null, 30.0, null);
+        when(rideService.searchRides(any(CustomUserDetails.class), eq(expected)))
+                .thenReturn(Collections.singletonList(ride));
+
+        mockMvc.perform(get("/api/v1/rides/search")
+                .param("origin", "Sofia")
+                .param("destination", "Plovdiv")
+                .param("from", "2030-01-01T08:00:00")
+                .param("maxPrice", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].origin").value("Sofia"));
+    }
+
+    @Test
+    void getRidesPage_ShouldReturnItemsAndCursor() throws Exception {
+        RideResponse item = new RideResponse();
+        item.setId(UUID.randomUUID());
+        RidePageResponse page = new RidePageResponse(Collections.singletonList(item), "next");
+        when(rideService.getRidesPage(any(CustomUserDetails.class), any(RideSearchCriteria.class), eq("abc"), eq(10)))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/rides/page")
+                .param("cursor", "abc")
+                .param("size", "10")
+                .param("minFreeSeats", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(item.getId().toString()))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(rideService).getRidesPage(any(CustomUserDetails.class),
+                eq(new RideSearchCriteria(null, null, null, null, null, 2)), eq("abc"), eq(10));
+    }
+
     @Test
     void getRide_ShouldReturnRide() throws Exception {
         UUID rideId = UUID.randomUUID();
@@ -0,0 +1,198 @@
+package com.ridemate.app.rides.repository;
+
+import com.ridemate.app.bookings.BookingStatus;
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.common.QueryCountInspector;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.dto.RideCursor;
+import com.ridemate.app.rides.dto.RideResponse;
+import com.ridemate.app.rides.dto.RideSearchCriteria;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ContextConfiguration(classes = RideRepositoryTest.JpaConfig.class)
+class RideRepositoryTest {
+
+    @Configuration
+    @EntityScan("com.ridemate.app")
+    @EnableJpaRepositories("com.ridemate.app")
+    @Import(QueryCountInspector.class)
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private RideRepository rideRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QueryCountInspector queryCountInspector;
+
+    private User driver;
+    private User passenger;
+    private LocalDateTime departure;
+
+    @BeforeEach
+    void setUp() {
+        driver = persistUser("driver", UserRole.DRIVER);
+        passenger = persistUser("passenger", UserRole.USER);
+        departure = LocalDateTime.now().plusDays(1).withNano(0);
+    }
+
+    @Test
+    void keysetPages_ShouldWalkAllRidesInDepartureOrderWithoutGapsOrDuplicates() {
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // pairs of rides share a departure time so the id tie-breaker is exercised
+            expected.add(persistRide("Sofia", "Plovdiv", departure.plusHours(i / 2), 10.0, 4, 0).getId());
+        }
+        entityManager.flush();
+
+        List<UUID> walked = new ArrayList<>();
+        RideCursor cursor = null;
+        do {
+            Specification<Ride> spec = RideSpecifications.openRides(new RideSearchCriteria(), LocalDateTime.now());
+            if (cursor != null) {
+                spec = spec.and(RideSpecifications.after(cursor));
+            }
+            List<Ride> page = rideRepository.findBy(spec,
+                    query -> query.sortBy(RideSpecifications.KEYSET_ORDER).limit(3).all());
+            page.forEach(ride -> walked.add(ride.getId()));
+            cursor = page.size() < 3 ? null : RideCursor.of(page.get(page.size() - 1));
+        } while (cursor != null);
+
+        assertEquals(expected.size(), walked.size());
+        assertEquals(expected.size(), walked.stream().distinct().count());
+        assertTrue(walked.containsAll(expected));
+    }
+
+    @Test
+    void keysetPage_ShouldFetchDriversWithRidesInOneStatement() {
+        for (int i = 0; i < 20; i++) {
+            driver = persistUser("driver" + i, UserRole.DRIVER);
+            persistRide("Sofia", "Plovdiv", departure.plusMinutes(i), 10.0, 4, 0);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        queryCountInspector.start();
+        List<RideResponse> page = rideRepository.findBy(
+                        RideSpecifications.openRides(new RideSearchCriteria(), LocalDateTime.now()),
+                        query -> query.sortBy(RideSpecifications.KEYSET_ORDER).project("driver").limit(20).all())
+                .stream().map(RideResponse::new).toList();
+        int statements = queryCountInspector.stop();
+
+        assertEquals(20, page.size());
+        assertEquals(20, page.stream().map(ride -> ride.getDriver().getUsername()).distinct().count());
+        assertTrue(statements <= 1, "expected a single statement but got " + statements);
+    }
+
+    @Test
+    void openRides_ShouldApplyFilters() {
+        Ride match = persistRide("Sofia", "Plovdiv", departure, 15.0, 4, 1);
+        persistRide("Sofia", "Varna", departure, 15.0, 4, 1);
+        persistRide("Sofia", "Plovdiv", departure, 40.0, 4, 1);
+        persistRide("Sofia", "Plovdiv", departure, 15.0, 4, 3);
+        persistRide("Sofia", "Plovdiv", departure.plusDays(5), 15.0, 4, 1);
+        persistRide("Sofia", "Plovdiv", LocalDateTime.now().minusHours(1), 15.0, 4, 1);
+        entityManager.flush();
+
+        RideSearchCriteria criteria = new RideSearchCriteria("Sofia", "Plovdiv", null, departure.plusDays(1), 20.0, 2);
+        List<Ride> result = rideRepository.findAll(RideSpecifications.openRides(criteria, LocalDateTime.now()));
+
+        assertEquals(List.of(match.getId()), result.stream().map(Ride::getId).toList());
+    }
+
+    @Test
+    void notBookedBy_ShouldExcludeRidesWithActiveBookingOfPassenger() {
+        Ride booked = persistRide("Sofia", "Plovdiv", departure, 15.0, 4, 1);
+        Ride cancelled = persistRide("Sofia", "Plovdiv", departure, 15.0, 4, 0);
+        persistBooking(booked, BookingStatus.PENDING);
+        persistBooking(cancelled, BookingStatus.CANCELLED);
+        entityManager.flush();
+
+        List<Ride> result = rideRepository.findAll(RideSpecifications.openRides(new RideSearchCriteria(),
+                LocalDateTime.now()).and(RideSpecifications.notBookedBy(passenger.getId())));
+
+        assertEquals(List.of(cancelled.getId()), result.stream().map(Ride::getId).toList());
+    }
+
+    @Test
+    void expiredRides_ShouldBeCompletedInChunksWithoutTouchingFutureOrCompletedRides() {
+        LocalDateTime past = LocalDateTime.now().minusHours(2);
+        Ride first = persistRide("Sofia", "Plovdiv", past, 15.0, 4, 0);
+        Ride second = persistRide("Sofia", "Plovdiv", past.plusMinutes(1), 15.0, 4, 4);
+        second.setStatus(RideStatus.BOOKED);
+        Ride alreadyCompleted = persistRide("Sofia", "Plovdiv", past, 15.0, 4, 0);
+        alreadyCompleted.setStatus(RideStatus.COMPLETED);
+        Ride future = persistRide("Sofia", "Plovdiv", departure, 15.0, 4, 0);
+        entityManager.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> chunk = rideRepository.findExpiredRideIds(now, RideStatus.COMPLETED, Limit.of(1));
+        assertEquals(List.of(first.getId()), chunk);
+        assertEquals(1, rideRepository.completeRides(chunk, now, RideStatus.COMPLETED));
+
+        chunk = rideRepository.findExpiredRideIds(now, RideStatus.COMPLETED, Limit.of(1));
+        assertEquals(List.of(second.getId()), chunk);
+        assertEquals(1, rideRepository.completeRides(chunk, now, RideStatus.COMPLETED));
+
+        assertTrue(rideRepository.findExpiredRideIds(now, RideStatus.COMPLETED, Limit.of(1)).isEmpty());
+        entityManager.clear();
+        assertEquals(RideStatus.ACTIVE, rideRepository.findById(future.getId()).orElseThrow().getStatus());
+        assertEquals(RideStatus.COMPLETED, rideRepository.findById(second.getId()).orElseThrow().getStatus());
+        assertEquals(0, rideRepository.completeRides(List.of(future.getId()), now, RideStatus.COMPLETED));
+        assertEquals(List.of(future.getId()), rideRepository.findUpcomingDepartures(now, RideStatus.COMPLETED)
+                .stream().map(RideDeparture::getId).toList());
+    }
+
+    private User persistUser(String name, UserRole role) {
+        User user = new User(null, name, name + "@test.com", "secret");
+        user.setRole(role);
+        return entityManager.persist(user);
+    }
+
+    private Ride persistRide(String origin, String destination, LocalDateTime dateTime, double price,
+            int seatsAvailable, int seatsTaken) {
+        Ride ride = new Ride();
+        ride.setDriver(driver);
+        ride.setOrigin(origin);
+        ride.setDestination(destination);
+        ride.setDateTime(dateTime);
+        ride.setPrice(price);
+        ride.setSeatsAvailable(seatsAvailable);
+        ride.setSeatsTaken(seatsTaken);
+        ride.setStatus(RideStatus.ACTIVE);
+        return entityManager.persist(ride);
+    }
+
+    private void persistBooking(Ride ride, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setRide(ride);
+        booking.setPassenger(passenger);
+        booking.setStatus(status);
+        entityManager.persist(booking);
+    }
+}
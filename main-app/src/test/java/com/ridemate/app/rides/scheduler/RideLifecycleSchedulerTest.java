@@ -0,0 +1,76 @@
+package com.ridemate.app.rides.scheduler;
+
+import com.ridemate.app.rides.repository.RideRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RideLifecycleSchedulerTest {
+
+    @Mock
+    private RideRepository rideRepository;
+
+    @Mock
+    private RideScheduler rideScheduler;
+
+    private RideLifecycleScheduler lifecycleScheduler;
+
+    @BeforeEach
+    void setUp() {
+        lifecycleScheduler = new RideLifecycleScheduler(rideRepository, rideScheduler, 1000);
+    }
+
+    @Test
+    void tick_ShouldCompleteRidesWhoseDepartureHasPassed() {
+        LocalDateTime departure = LocalDateTime.now().plusSeconds(30);
+        UUID due = UUID.randomUUID();
+        UUID later = UUID.randomUUID();
+        lifecycleScheduler.rideScheduled(due, departure);
+        lifecycleScheduler.rideScheduled(later, departure.plusHours(1));
+        when(rideScheduler.completeRides(eq(List.of(due)), any(LocalDateTime.class))).thenReturn(1);
+
+        assertEquals(0, lifecycleScheduler.tick(millis(departure.minusSeconds(1))));
+        assertEquals(1, lifecycleScheduler.tick(millis(departure.plusSeconds(1))));
+
+        verify(rideScheduler, times(1)).completeRides(any(), any());
+        assertEquals(1, lifecycleScheduler.pending());
+    }
+
+    @Test
+    void rideCancelled_ShouldRemoveDeparture() {
+        LocalDateTime departure = LocalDateTime.now().plusSeconds(30);
+        UUID rideId = UUID.randomUUID();
+        lifecycleScheduler.rideScheduled(rideId, departure);
+        lifecycleScheduler.rideCancelled(rideId);
+
+        assertEquals(0, lifecycleScheduler.tick(millis(departure.plusSeconds(5))));
+
+        verifyNoInteractions(rideScheduler);
+    }
+
+    @Test
+    void tick_ShouldSurviveCompletionFailure() {
+        LocalDateTime departure = LocalDateTime.now().plusSeconds(30);
+        lifecycleScheduler.rideScheduled(UUID.randomUUID(), departure);
+        when(rideScheduler.completeRides(any(), any())).thenThrow(new RuntimeException("database unavailable"));
+
+        assertEquals(0, lifecycleScheduler.tick(millis(departure.plusSeconds(5))));
+    }
+
+    private static long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
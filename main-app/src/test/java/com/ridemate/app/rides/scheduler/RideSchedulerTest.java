@@ -0,0 +1,74 @@
+package com.ridemate.app.rides.scheduler;
+
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.cache.RideCache;
+import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.rides.search.RideSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RideSchedulerTest {
+
+    @Mock
+    private RideRepository rideRepository;
+
+    @Mock
+    private RideSearchIndex rideSearchIndex;
+
+    @Mock
+    private RideCache rideCache;
+
+    @InjectMocks
+    private RideScheduler rideScheduler;
+
+    @Test
+    void completeExpiredRides_ShouldUpdateInChunksAndEvictOnlyCompletedRides() {
+        ReflectionTestUtils.setField(rideScheduler, "chunkSize", 2);
+        List<UUID> firstChunk = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> secondChunk = List.of(UUID.randomUUID());
+        when(rideRepository.findExpiredRideIds(any(LocalDateTime.class), eq(RideStatus.COMPLETED), eq(Limit.of(2))))
+                .thenReturn(firstChunk)
+                .thenReturn(secondChunk);
+        when(rideRepository.completeRides(eq(firstChunk), any(LocalDateTime.class), eq(RideStatus.COMPLETED)))
+                .thenReturn(2);
+        when(rideRepository.completeRides(eq(secondChunk), any(LocalDateTime.class), eq(RideStatus.COMPLETED)))
+                .thenReturn(1);
+
+        int completed = rideScheduler.completeExpiredRides();
+
+        assertEquals(3, completed);
+        verify(rideRepository, times(2)).findExpiredRideIds(any(), any(), any());
+        for (UUID id : firstChunk) {
+            verify(rideSearchIndex).remove(id);
+            verify(rideCache).rideChanged(id);
+        }
+        verify(rideSearchIndex).remove(secondChunk.get(0));
+        verify(rideCache).rideChanged(secondChunk.get(0));
+        verify(rideRepository, never()).save(any());
+    }
+
+    @Test
+    void completeExpiredRides_ShouldDoNothing_WhenNoRidesExpired() {
+        when(rideRepository.findExpiredRideIds(any(), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, rideScheduler.completeExpiredRides());
+
+        verify(rideRepository, never()).completeRides(any(), any(), any());
+        verifyNoInteractions(rideSearchIndex, rideCache);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ridemate.app.rides.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_700_000_000_000L;
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 3, START);
+
+    @Test
+    void advance_ShouldFireEntryOnlyAfterItsDeadlineTick() {
+        wheel.schedule("ride", START + 2500);
+
+        assertTrue(wheel.advance(START + 2000).isEmpty());
+        assertEquals(List.of("ride"), wheel.advance(START + 3000));
+        assertFalse(wheel.contains("ride"));
+    }
+
+    @Test
+    void advance_ShouldCascadeEntriesFromHigherLevelsAndOverflow() {
+        long[] offsets = {5_000, 9_000, 70_000, 511_000, 600_000, 5_000_000};
+        for (int i = 0; i < offsets.length; i++) {
+            wheel.schedule("ride-" + i, START + offsets[i]);
+        }
+
+        for (int i = 0; i < offsets.length; i++) {
+            List<String> fired = advanceUntil(START + offsets[i]);
+            assertTrue(fired.isEmpty(), "fired early: " + fired);
+            assertEquals(List.of("ride-" + i), wheel.advance(START + offsets[i] + TICK));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_ShouldReplacePreviousDeadline() {
+        wheel.schedule("ride", START + 3000);
+        wheel.schedule("ride", START + 90_000);
+
+        assertTrue(wheel.advance(START + 10_000).isEmpty());
+        assertEquals(List.of("ride"), wheel.advance(START + 91_000));
+    }
+
+    @Test
+    void cancel_ShouldPreventFiring() {
+        wheel.schedule("ride", START + 3000);
+        wheel.cancel("ride");
+
+        assertTrue(wheel.advance(START + 10_000).isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_ShouldFireOverdueEntryOnNextAdvance() {
+        wheel.advance(START + 5000);
+        wheel.schedule("late", START);
+
+        assertEquals(List.of("late"), wheel.advance(START + 5000));
+    }
+
+    private List<String> advanceUntil(long timeMillis) {
+        List<String> fired = new ArrayList<>();
+        for (long now = START; now <= timeMillis; now += 7_000) {
+            fired.addAll(wheel.advance(Math.min(now, timeMillis)));
+        }
+        fired.addAll(wheel.advance(timeMillis));
+        return fired;
+    }
+}
@@ -0,0 +1,70 @@
+package com.ridemate.app.rides.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActiveBookingSetTest {
+
+    @Test
+    void plus_ShouldReturnNewSetAndLeaveOriginalUntouched() {
+        UUID rideId = UUID.randomUUID();
+
+        ActiveBookingSet set = ActiveBookingSet.EMPTY.plus(rideId);
+
+        assertTrue(set.contains(rideId));
+        assertFalse(ActiveBookingSet.EMPTY.contains(rideId));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void minus_ShouldCountRepeatedBookingsOfSameRide() {
+        UUID rideId = UUID.randomUUID();
+        ActiveBookingSet set = ActiveBookingSet.EMPTY.plus(rideId).plus(rideId);
+
+        set = set.minus(rideId);
+        assertTrue(set.contains(rideId));
+
+        set = set.minus(rideId);
+        assertFalse(set.contains(rideId));
+        assertTrue(set.isEmpty());
+        assertSame(set, set.minus(rideId));
+    }
+
+    @Test
+    void without_ShouldDropAllBookingsOfRide() {
+        UUID rideId = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        ActiveBookingSet set = ActiveBookingSet.EMPTY.plus(rideId).plus(rideId).plus(other);
+
+        set = set.without(rideId);
+
+        assertFalse(set.contains(rideId));
+        assertTrue(set.contains(other));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void contains_ShouldStayExactAcrossGrowthAndRemoval() {
+        List<UUID> rides = new ArrayList<>();
+        ActiveBookingSet set = ActiveBookingSet.EMPTY;
+        for (int i = 0; i < 100; i++) {
+            UUID rideId = new UUID(i % 7, i);
+            rides.add(rideId);
+            set = set.plus(rideId);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            set = set.minus(rides.get(i));
+        }
+
+        assertEquals(50, set.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, set.contains(rides.get(i)));
+        }
+        assertFalse(set.contains(new UUID(0, 1000)));
+    }
+}
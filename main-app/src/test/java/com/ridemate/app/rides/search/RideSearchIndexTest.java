@@ -0,0 +1,285 @@
+package com.ridemate.app.rides.search;
+
+import com.ridemate.app.bookings.repository.ActiveBookingView;
+import com.ridemate.app.bookings.repository.BookingRepository;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.dto.RideSearchCriteria;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.users.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RideSearchIndexTest {
+
+    @Mock
+    private RideRepository rideRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private RideSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RideSearchIndex(rideRepository, bookingRepository);
+    }
+
+    @Test
+    void rebuild_ShouldLoadOpenRidesAndActivePassengers() {
+        Ride ride = ride("Sofia", "Plovdiv", LocalDateTime.now().plusDays(1));
+        UUID passengerId = UUID.randomUUID();
+        when(rideRepository.findByStatusAndDateTimeAfter(eq(RideStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(List.of(ride));
+        when(bookingRepository.findActiveBookings(anyCollection(), eq(RideStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(List.of(activeBooking(ride.getId(), passengerId)));
+
+        index.rebuild();
+
+        assertEquals(1, index.size());
+        assertTrue(index.hasActiveBooking(ride.getId(), passengerId));
+        assertTrue(index.findOpenRides(passengerId).isEmpty());
+        assertEquals(1, index.findOpenRides(UUID.randomUUID()).size());
+    }
+
+    @Test
+    void rebuild_ShouldIndexRidesWithBlankOriginOrDestination() {
+        Ride blankOrigin = ride(" ", "Plovdiv", LocalDateTime.now().plusDays(1));
+        Ride noDestination = ride("Sofia", null, LocalDateTime.now().plusDays(1));
+        when(rideRepository.findByStatusAndDateTimeAfter(eq(RideStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(List.of(blankOrigin, noDestination));
+        when(bookingRepository.findActiveBookings(anyCollection(), eq(RideStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        index.rebuild();
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(blankOrigin.getId()),
+                index.search(new RideSearchCriteria(null, "Plovdiv", null, null, null, null), null)
+                        .stream().map(Ride::getId).toList());
+        assertEquals(List.of(noDestination.getId()),
+                index.search(new RideSearchCriteria("Sofia", null, null, null, null, null), null)
+                        .stream().map(Ride::getId).toList());
+    }
+
+    @Test
+    void put_ShouldReindexAndRemoveRideWithBlankOrigin() {
+        Ride ride = ride("", "Plovdiv", LocalDateTime.now().plusDays(1));
+        index.put(ride);
+
+        ride.setOrigin("Sofia");
+        index.put(ride);
+        assertEquals(1, index.search(new RideSearchCriteria("Sofia", null, null, null, null, null), null).size());
+
+        ride.setOrigin(null);
+        index.put(ride);
+        assertTrue(index.search(new RideSearchCriteria("Sofia", null, null, null, null, null), null).isEmpty());
+        assertEquals(1, index.findOpenRides(null).size());
+
+        index.remove(ride.getId());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void search_ShouldMatchOriginAndDestinationIgnoringCase() {
+        Ride match = ride("Sofia", "Plovdiv", LocalDateTime.now().plusDays(1));
+        index.put(match);
+        index.put(ride("Sofia", "Varna", LocalDateTime.now().plusDays(1)));
+        index.put(ride("Burgas", "Plovdiv", LocalDateTime.now().plusDays(1)));
+
+        List<Ride> result = index.search(new RideSearchCriteria(" sofia ", "PLOVDIV", null, null, null, null), null);
+
+        assertEquals(1, result.size());
+        assertEquals(match.getId(), result.get(0).getId());
+    }
+
+    @Test
+    void search_ShouldFilterByDepartureWindowAndSortByDeparture() {
+        LocalDateTime base = LocalDateTime.now().plusDays(2).withMinute(0).withSecond(0).withNano(0);
+        Ride later = ride("A", "B", base.plusHours(3));
+        Ride earlier = ride("A", "B", base.plusMinutes(30));
+        index.put(later);
+        index.put(earlier);
+        index.put(ride("A", "B", base.plusDays(1)));
+
+        List<Ride> result = index.search(new RideSearchCriteria(null, null, base, base.plusHours(4), null, null),
+                null);
+
+        assertEquals(List.of(earlier.getId(), later.getId()), result.stream().map(Ride::getId).toList());
+    }
+
+    @Test
+    void search_ShouldFilterByMaxPriceAndFreeSeats() {
+        Ride cheap = ride("A", "B", LocalDateTime.now().plusDays(1));
+        Ride expensive = ride("A", "B", LocalDateTime.now().plusDays(1));
+        expensive.setPrice(50.0);
+        Ride almostFull = ride("A", "B", LocalDateTime.now().plusDays(1));
+        almostFull.setSeatsTaken(3);
+        index.put(cheap);
+        index.put(expensive);
+        index.put(almostFull);
+
+        List<Ride> result = index.search(new RideSearchCriteria(null, null, null, null, 20.0, 2), null);
+
+        assertEquals(List.of(cheap.getId()), result.stream().map(Ride::getId).toList());
+    }
+
+    @Test
+    void put_ShouldReindexWhenRideChangesAndDropClosedRides() {
+        Ride ride = ride("Sofia", "Plovdiv", LocalDateTime.now().plusDays(1));
+        index.put(ride);
+
+        ride.setOrigin("Varna");
+        index.put(ride);
+
+        assertTrue(index.search(new RideSearchCriteria("Sofia", null, null, null, null, null), null).isEmpty());
+        assertEquals(1, index.search(new RideSearchCriteria("Varna", null, null, null, null, null), null).size());
+
+        ride.setStatus(RideStatus.BOOKED);
+        index.put(ride);
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void put_ShouldStoreDetachedCopy() {
+        Ride ride = ride("Sofia", "Plovdiv", LocalDateTime.now().plusDays(1));
+        index.put(ride);
+
+        ride.setSeatsTaken(3);
+
+        assertEquals(0, index.findOpenRides(null).get(0).getSeatsTaken());
+    }
+
+    @Test
+    void removePassenger_ShouldMakeRideVisibleAgain() {
+        Ride ride = ride("Sofia", "Plovdiv", LocalDateTime.now().plusDays(1));
+        UUID passengerId = UUID.randomUUID();
+        index.put(ride);
+        index.addPassenger(ride.getId(), passengerId);
+
+        assertTrue(index.findOpenRides(passengerId).isEmpty());
+
+        index.removePassenger(ride.getId(), passengerId);
+
+        assertEquals(1, index.findOpenRides(passengerId).size());
+    }
+
+    @Test
+    void removePassenger_ShouldKeepRideHidden_WhileAnotherActiveBookingRemains() {
+        Ride ride = ride("Sofia", "Plovdiv", LocalDateTime.now().plusDays(1));
+        UUID passengerId = UUID.randomUUID();
+        index.put(ride);
+        index.addPassenger(ride.getId(), passengerId);
+        index.addPassenger(ride.getId(), passengerId);
+
+        index.removePassenger(ride.getId(), passengerId);
+
+        assertTrue(index.hasActiveBooking(ride.getId(), passengerId));
+        assertTrue(index.findOpenRides(passengerId).isEmpty());
+
+        index.removePassenger(ride.getId(), passengerId);
+
+        assertFalse(index.hasActiveBooking(ride.getId(), passengerId));
+    }
+
+    @Test
+    void findOpenRides_ShouldReturnImmutableSnapshotUntilNextWrite() {
+        index.put(ride("Sofia", "Plovdiv", LocalDateTime.now().plusDays(1)));
+
+        List<Ride> first = index.findOpenRides(UUID.randomUUID());
+        List<Ride> second = index.findOpenRides(UUID.randomUUID());
+
+        assertEquals(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(new Ride()));
+
+        index.put(ride("Sofia", "Varna", LocalDateTime.now().plusDays(2)));
+
+        assertEquals(1, first.size());
+        assertEquals(2, index.findOpenRides(UUID.randomUUID()).size());
+    }
+
+    @Test
+    void findOpenRides_ShouldApplyPassengerOverlayWithoutTouchingSharedSnapshot() {
+        Ride booked = ride("Sofia", "Plovdiv", LocalDateTime.now().plusDays(1));
+        Ride free = ride("Sofia", "Varna", LocalDateTime.now().plusDays(2));
+        UUID passengerId = UUID.randomUUID();
+        index.put(booked);
+        index.put(free);
+        index.addPassenger(booked.getId(), passengerId);
+
+        List<Ride> forPassenger = index.findOpenRides(passengerId);
+        List<Ride> forOthers = index.findOpenRides(UUID.randomUUID());
+
+        assertEquals(List.of(free.getId()), forPassenger.stream().map(Ride::getId).toList());
+        assertEquals(List.of(booked.getId(), free.getId()), forOthers.stream().map(Ride::getId).toList());
+    }
+
+    @Test
+    void remove_ShouldDropRideAndPassengerLinks() {
+        Ride ride = ride("Sofia", "Plovdiv", LocalDateTime.now().plusDays(1));
+        UUID passengerId = UUID.randomUUID();
+        index.put(ride);
+        index.addPassenger(ride.getId(), passengerId);
+
+        index.remove(ride.getId());
+
+        assertFalse(index.hasActiveBooking(ride.getId(), passengerId));
+    }
+
+    @Test
+    void remove_ShouldDropRide() {
+        Ride ride = ride("Sofia", "Plovdiv", LocalDateTime.now().plusDays(1));
+        index.put(ride);
+
+        index.remove(ride.getId());
+
+        assertEquals(0, index.size());
+        assertTrue(index.search(new RideSearchCriteria("Sofia", null, null, null, null, null), null).isEmpty());
+    }
+
+    private static Ride ride(String origin, String destination, LocalDateTime dateTime) {
+        User driver = new User();
+        driver.setId(UUID.randomUUID());
+        driver.setUsername("driver");
+        Ride ride = new Ride();
+        ride.setId(UUID.randomUUID());
+        ride.setDriver(driver);
+        ride.setOrigin(origin);
+        ride.setDestination(destination);
+        ride.setDateTime(dateTime);
+        ride.setPrice(10.0);
+        ride.setSeatsAvailable(4);
+        ride.setSeatsTaken(0);
+        ride.setStatus(RideStatus.ACTIVE);
+        return ride;
+    }
+
+    private static ActiveBookingView activeBooking(UUID rideId, UUID passengerId) {
+        return new ActiveBookingView() {
+            @Override
+            public UUID getRideId() {
+                return rideId;
+            }
+
+            @Override
+            public UUID getPassengerId() {
+                return passengerId;
+            }
+        };
+    }
+}
@@ -1,16 +1,23 @@
 package com.ridemate.app.rides.service;
 
 import com.ridemate.app.bookings.entity.Booking;
-import com.ridemate.app.bookings.repository.BookingRepository;
-import com.ridemate.app.client.audit.AuditClient;
+import com.ridemate.app.bookings.service.BookingService;
+import com.ridemate.app.client.audit.AuditPublisher;
 import com.ridemate.app.client.audit.dto.CreateAuditEntryDTO;
 import com.ridemate.app.exceptions.AccessDeniedException;
+import com.ridemate.app.exceptions.BadRequestException;
 import com.ridemate.app.exceptions.ConflictException;
 import com.ridemate.app.exceptions.ResourceNotFoundException;
 import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.cache.RideCache;
+import com.ridemate.app.rides.dto.RideCursor;
 import com.ridemate.app.rides.dto.RideDto;
+import com.ridemate.app.rides.dto.RidePageResponse;
+import com.ridemate.app.rides.dto.RideSearchCriteria;
 import com.ridemate.app.rides.entity.Ride;
 import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.rides.scheduler.RideLifecycleScheduler;
+import com.ridemate.app.rides.search.RideSearchIndex;
 import com.ridemate.app.security.CustomUserDetails;
 import com.ridemate.app.users.entity.User;
 import com.ridemate.app.users.service.UserService;
@@ -18,7 +25,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -40,27 +51,100 @@ class RideServiceTest {
     private UserService userService;
 
     @Mock
-    private BookingRepository bookingRepository;
+    private BookingService bookingService;
 
     @Mock
-    private AuditClient auditClient;
+    private AuditPublisher auditPublisher;
+
+    @Mock
+    private RideSearchIndex rideSearchIndex;
+
+    @Mock
+    private RideLifecycleScheduler rideLifecycleScheduler;
+
+    @Spy
+    private RideCache rideCache = new RideCache(new ConcurrentMapCacheManager(), new SimpleMeterRegistry());
 
     @InjectMocks
     private RideService rideService;
 
     @Test
-    void getAllRides_ShouldReturnList() {
-        CustomUserDetails currentUser = mock(CustomUserDetails.class);
+    void getAllRides_ShouldAnswerFromIndex() {
         User user = new User();
         user.setId(UUID.randomUUID());
-        when(userService.getUser(currentUser)).thenReturn(user);
-        when(rideRepository.findByStatusAndDateTimeAfter(any(RideStatus.class), any(LocalDateTime.class)))
-                .thenReturn(Collections.emptyList());
+        user.setEmail("user@test.com");
+        CustomUserDetails currentUser = new CustomUserDetails(user);
+        when(rideSearchIndex.findOpenRides(user.getId())).thenReturn(Collections.emptyList());
 
         List<Ride> result = rideService.getAllRides(currentUser);
 
         assertNotNull(result);
-        verify(rideRepository, times(1)).findByStatusAndDateTimeAfter(any(RideStatus.class), any(LocalDateTime.class));
+        verify(rideSearchIndex, times(1)).findOpenRides(user.getId());
+        verifyNoInteractions(rideRepository, userService);
+    }
+
+    @Test
+    void searchRides_ShouldDelegateToIndex() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        CustomUserDetails currentUser = new CustomUserDetails(user);
+        RideSearchCriteria criteria = new RideSearchCriteria("A", "B", null, null, null, null);
+        Ride ride = new Ride();
+        when(rideSearchIndex.search(criteria, user.getId())).thenReturn(List.of(ride));
+
+        List<Ride> result = rideService.searchRides(currentUser, criteria);
+
+        assertEquals(List.of(ride), result);
+        verifyNoInteractions(rideRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getRidesPage_ShouldReturnNextCursor_WhenMoreRidesExist() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        CustomUserDetails currentUser = new CustomUserDetails(user);
+        User driver = new User();
+        driver.setId(UUID.randomUUID());
+        LocalDateTime departure = LocalDateTime.now().plusDays(1);
+        List<Ride> rides = List.of(pageRide(driver, departure), pageRide(driver, departure.plusHours(1)),
+                pageRide(driver, departure.plusHours(2)));
+        when(rideRepository.findBy(any(Specification.class), any())).thenReturn(rides);
+
+        RidePageResponse result = rideService.getRidesPage(currentUser, new RideSearchCriteria(), null, 2);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(rides.get(1).getId(), RideCursor.decode(result.getNextCursor()).getId());
+        assertEquals(rides.get(1).getDateTime(), RideCursor.decode(result.getNextCursor()).getDateTime());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getRidesPage_ShouldOmitCursor_OnLastPage() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        CustomUserDetails currentUser = new CustomUserDetails(user);
+        User driver = new User();
+        driver.setId(UUID.randomUUID());
+        when(rideRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(pageRide(driver, LocalDateTime.now().plusDays(1))));
+
+        String cursor = new RideCursor(LocalDateTime.now(), UUID.randomUUID()).encode();
+        RidePageResponse result = rideService.getRidesPage(currentUser, new RideSearchCriteria(), cursor, null);
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getRidesPage_ShouldRejectMalformedCursor() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        CustomUserDetails currentUser = new CustomUserDetails(user);
+
+        assertThrows(BadRequestException.class,
+                () -> rideService.getRidesPage(currentUser, new RideSearchCriteria(), "not-a-cursor", null));
+        verifyNoInteractions(rideRepository);
     }
 
     @Test
@@ -74,6 +158,9 @@ class RideServiceTest {
 
         assertNotNull(result);
         assertEquals(rideId, result.getId());
+
+        rideService.getRideById(rideId);
+        verify(rideRepository, times(1)).findById(rideId);
     }
 
     @Test
@@ -106,7 +193,9 @@ class RideServiceTest {
 
         assertNotNull(result);
         verify(rideRepository, times(1)).save(any(Ride.class));
-        verify(auditClient, times(1)).createEntry(any(CreateAuditEntryDTO.class));
+        verify(rideSearchIndex, times(1)).put(savedRide);
+        verify(rideLifecycleScheduler, times(1)).rideScheduled(savedRide.getId(), savedRide.getDateTime());
+        verify(auditPublisher, times(1)).publish(any(CreateAuditEntryDTO.class));
     }
 
     @Test
@@ -114,7 +203,7 @@ class RideServiceTest {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(currentUser.getUser()).thenReturn(user);
 
         UUID rideId = UUID.randomUUID();
         Ride ride = new Ride();
@@ -134,7 +223,8 @@ class RideServiceTest {
 
         assertNotNull(result);
         assertEquals("New Origin", result.getOrigin());
-        verify(auditClient, times(1)).createEntry(any(CreateAuditEntryDTO.class));
+        verify(rideLifecycleScheduler, times(1)).rideScheduled(rideId, rideDto.getDateTime());
+        verify(auditPublisher, times(1)).publish(any(CreateAuditEntryDTO.class));
     }
 
     @Test
@@ -142,7 +232,7 @@ class RideServiceTest {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(currentUser.getUser()).thenReturn(user);
 
         UUID rideId = UUID.randomUUID();
         Ride ride = new Ride();
@@ -162,7 +252,7 @@ class RideServiceTest {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(currentUser.getUser()).thenReturn(user);
 
         UUID rideId = UUID.randomUUID();
         Ride ride = new Ride();
@@ -173,11 +263,14 @@ class RideServiceTest {
         rideService.deleteRide(currentUser, rideId);
 
         verify(rideRepository, times(1)).delete(ride);
-        verify(auditClient, times(1)).createEntry(any(CreateAuditEntryDTO.class));
+        verify(rideSearchIndex, times(1)).remove(rideId);
+        verify(rideCache, times(1)).rideChanged(rideId);
+        verify(rideLifecycleScheduler, times(1)).rideCancelled(rideId);
+        verify(auditPublisher, times(1)).publish(any(CreateAuditEntryDTO.class));
     }
 
     @Test
-    void bookRide_ShouldBook_WhenSeatsAvailable() {
+    void bookRide_ShouldBookThroughBookingServiceAndAudit() {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
@@ -186,35 +279,29 @@ class RideServiceTest {
         UUID rideId = UUID.randomUUID();
         Ride ride = new Ride();
         ride.setId(rideId);
-        ride.setSeatsAvailable(4);
-        ride.setSeatsTaken(0);
-        ride.setBookings(Collections.emptyList());
-        when(rideRepository.findById(rideId)).thenReturn(Optional.of(ride));
-        when(rideRepository.save(any(Ride.class))).thenReturn(ride);
+        ride.setSeatsTaken(1);
+        Booking booking = new Booking();
+        booking.setRide(ride);
+        when(bookingService.book(user, rideId)).thenReturn(booking);
 
         Ride result = rideService.bookRide(currentUser, rideId);
 
-        assertNotNull(result);
-        assertEquals(1, result.getSeatsTaken());
-        verify(bookingRepository, times(1)).save(any(Booking.class));
-        verify(auditClient, times(1)).createEntry(any(CreateAuditEntryDTO.class));
+        assertSame(ride, result);
+        verify(auditPublisher, times(1)).publish(any(CreateAuditEntryDTO.class));
     }
 
     @Test
-    void bookRide_ShouldThrowConflict_WhenNoSeats() {
+    void bookRide_ShouldNotAudit_WhenBookingIsRejected() {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
         when(userService.getUser(currentUser)).thenReturn(user);
 
         UUID rideId = UUID.randomUUID();
-        Ride ride = new Ride();
-        ride.setId(rideId);
-        ride.setSeatsAvailable(4);
-        ride.setSeatsTaken(4);
-        when(rideRepository.findById(rideId)).thenReturn(Optional.of(ride));
+        when(bookingService.book(user, rideId)).thenThrow(new ConflictException("Already booked"));
 
         assertThrows(ConflictException.class, () -> rideService.bookRide(currentUser, rideId));
+        verifyNoInteractions(auditPublisher);
     }
 
     @Test
@@ -222,7 +309,7 @@ class RideServiceTest {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
         user.setId(UUID.randomUUID());
-        when(userService.getUser(currentUser)).thenReturn(user);
+        when(currentUser.getUser()).thenReturn(user);
 
         UUID rideId = UUID.randomUUID();
         Ride ride = new Ride();
@@ -233,4 +320,12 @@ class RideServiceTest {
 
         assertThrows(AccessDeniedException.class, () -> rideService.deleteRide(currentUser, rideId));
     }
+
+    private static Ride pageRide(User driver, LocalDateTime departure) {
+        Ride ride = new Ride();
+        ride.setId(UUID.randomUUID());
+        ride.setDriver(driver);
+        ride.setDateTime(departure);
+        return ride;
+    }
 }
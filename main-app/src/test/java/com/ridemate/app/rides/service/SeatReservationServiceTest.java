@@ -0,0 +1,186 @@
+package com.ridemate.app.rides.service;
+
+import com.ridemate.app.bookings.BookingStatus;
+import com.ridemate.app.bookings.entity.Booking;
+import com.ridemate.app.bookings.repository.BookingRepository;
+import com.ridemate.app.exceptions.ConflictException;
+import com.ridemate.app.rides.RideStatus;
+import com.ridemate.app.rides.entity.Ride;
+import com.ridemate.app.rides.repository.RideRepository;
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import com.ridemate.app.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = SeatReservationServiceTest.JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatReservationServiceTest {
+
+    private static final int ATTEMPTS = 2000;
+    private static final int THREADS = 32;
+    private static final int SEATS = 25;
+
+    @Configuration
+    @EntityScan("com.ridemate.app")
+    @EnableJpaRepositories("com.ridemate.app")
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private RideRepository rideRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User driver;
+    private User passenger;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        driver = saveUser(UserRole.DRIVER);
+        passenger = saveUser(UserRole.USER);
+    }
+
+    @Test
+    void reserve_ShouldNeverOversell_UnderConcurrentBookings() throws Exception {
+        assertNoOversell(new SeatReservationService(rideRepository, 0));
+    }
+
+    @Test
+    void reserve_ShouldNeverOversell_WithStripedLocks() throws Exception {
+        assertNoOversell(new SeatReservationService(rideRepository, 64));
+    }
+
+    @Test
+    void release_ShouldReopenFullRide() {
+        SeatReservationService reservations = new SeatReservationService(rideRepository, 0);
+        UUID rideId = saveRide(1).getId();
+
+        transactionTemplate.executeWithoutResult(status -> reservations.reserve(rideId));
+        assertEquals(RideStatus.BOOKED, rideRepository.findById(rideId).orElseThrow().getStatus());
+        assertThrows(ConflictException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> reservations.reserve(rideId)));
+
+        transactionTemplate.executeWithoutResult(status -> reservations.release(rideId));
+        Ride ride = rideRepository.findById(rideId).orElseThrow();
+        assertEquals(0, ride.getSeatsTaken());
+        assertEquals(RideStatus.ACTIVE, ride.getStatus());
+    }
+
+    @Test
+    void reserve_ShouldReject_WhenRideIsCompletedOrDeparted() {
+        SeatReservationService reservations = new SeatReservationService(rideRepository, 0);
+        Ride completed = saveRide(4);
+        completed.setStatus(RideStatus.COMPLETED);
+        rideRepository.save(completed);
+        Ride departed = saveRide(4);
+        departed.setDateTime(LocalDateTime.now().minusHours(1));
+        rideRepository.save(departed);
+
+        for (UUID rideId : List.of(completed.getId(), departed.getId())) {
+            assertThrows(ConflictException.class,
+                    () -> transactionTemplate.executeWithoutResult(status -> reservations.reserve(rideId)));
+            assertEquals(0, rideRepository.findById(rideId).orElseThrow().getSeatsTaken());
+        }
+    }
+
+    private void assertNoOversell(SeatReservationService reservations) throws Exception {
+        UUID rideId = saveRide(SEATS).getId();
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < ATTEMPTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> {
+                            reservations.reserve(rideId);
+                            Booking booking = new Booking();
+                            booking.setRide(rideRepository.getReferenceById(rideId));
+                            booking.setPassenger(passenger);
+                            booking.setStatus(BookingStatus.PENDING);
+                            bookingRepository.save(booking);
+                        });
+                        booked.incrementAndGet();
+                    } catch (ConflictException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Ride ride = rideRepository.findById(rideId).orElseThrow();
+        long bookings = bookingRepository.findAll().stream()
+                .filter(booking -> booking.getRide().getId().equals(rideId))
+                .count();
+        assertEquals(SEATS, booked.get());
+        assertEquals(ATTEMPTS - SEATS, rejected.get());
+        assertEquals(SEATS, ride.getSeatsTaken());
+        assertEquals(SEATS, bookings);
+        assertEquals(RideStatus.BOOKED, ride.getStatus());
+    }
+
+    private User saveUser(UserRole role) {
+        String name = role.name().toLowerCase() + "-" + UUID.randomUUID();
+        User user = new User(null, name, name + "@test.com", "secret");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Ride saveRide(int seatsAvailable) {
+        Ride ride = new Ride();
+        ride.setDriver(driver);
+        ride.setOrigin("Sofia");
+        ride.setDestination("Plovdiv");
+        ride.setDateTime(LocalDateTime.now().plusDays(1));
+        ride.setPrice(15.0);
+        ride.setSeatsAvailable(seatsAvailable);
+        ride.setSeatsTaken(0);
+        ride.setStatus(RideStatus.ACTIVE);
+        return rideRepository.save(ride);
+    }
+}
@@ -0,0 +1,82 @@
+package com.ridemate.app.security;
+
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = new User(UUID.randomUUID(), "driver", "driver@test.com", "secret");
+        user.setRole(UserRole.DRIVER);
+        token = jwtUtil.generateToken(new CustomUserDetails(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ShouldBuildPrincipalFromClaims_WhenStateless() throws Exception {
+        JwtAuthFilter filter = filter(true);
+
+        Authentication authentication = authenticate(filter);
+
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertEquals(user.getId(), principal.getUser().getId());
+        assertEquals(UserRole.DRIVER, principal.getUser().getRole());
+        assertEquals("driver@test.com", principal.getUsername());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void doFilter_ShouldLoadPrincipalOnce_WhenCached() throws Exception {
+        when(userDetailsService.loadUserByUsername("driver@test.com")).thenReturn(new CustomUserDetails(user));
+        JwtAuthFilter filter = filter(false);
+
+        authenticate(filter);
+        SecurityContextHolder.clearContext();
+        Authentication authentication = authenticate(filter);
+
+        assertEquals(user, ((CustomUserDetails) authentication.getPrincipal()).getUser());
+        verify(userDetailsService, times(1)).loadUserByUsername("driver@test.com");
+    }
+
+    private JwtAuthFilter filter(boolean stateless) {
+        PrincipalCache principalCache = new PrincipalCache(100, 60_000, new SimpleMeterRegistry());
+        return new JwtAuthFilter(jwtUtil, userDetailsService, principalCache, stateless);
+    }
+
+    private Authentication authenticate(JwtAuthFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -61,4 +61,30 @@ class JwtUtilTest {
 
         assertFalse(valid);
     }
+
+    @Test
+    void verify_ShouldReturnClaimsFromSingleParse() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        VerifiedToken verified = jwtUtil.verify(token);
+
+        assertEquals("test@test.com", verified.username());
+        assertEquals("USER", verified.role());
+        assertFalse(verified.isExpired(java.time.Instant.now()));
+    }
+
+    @Test
+    void verify_ShouldReuseVerifiedTokenFromCache() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        assertSame(jwtUtil.verify(token), jwtUtil.verify(token));
+    }
+
+    @Test
+    void verify_ShouldRejectTamperedToken() {
+        String token = jwtUtil.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(io.jsonwebtoken.JwtException.class, () -> jwtUtil.verify(tampered));
+    }
 }
@@ -0,0 +1,101 @@
+package com.ridemate.app.security;
+
+import com.ridemate.app.users.UserRole;
+import com.ridemate.app.users.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void get_ShouldLoadPrincipalOnce_WithinTtl() {
+        PrincipalCache cache = new PrincipalCache(10, 1000, clock::get, meterRegistry);
+
+        UserDetails first = cache.get("user@test.com", loader());
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        UserDetails second = cache.get("user@test.com", loader());
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("ridemate.cache.gets").tag("cache", "principal")
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void get_ShouldReloadPrincipal_AfterTtl() {
+        PrincipalCache cache = new PrincipalCache(10, 1000, clock::get, meterRegistry);
+
+        cache.get("user@test.com", loader());
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        cache.get("user@test.com", loader());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void userChanged_ShouldEvictPrincipal() {
+        PrincipalCache cache = new PrincipalCache(10, 1000, clock::get, meterRegistry);
+        cache.get("user@test.com", loader());
+
+        cache.userChanged("user@test.com");
+        cache.get("user@test.com", loader());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldNotCachePrincipal_WhenUserChangedDuringLoad() {
+        PrincipalCache cache = new PrincipalCache(10, 1000, clock::get, meterRegistry);
+
+        cache.get("user@test.com", username -> {
+            cache.userChanged(username);
+            return loader().apply(username);
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_ShouldBoundNumberOfPrincipals() {
+        PrincipalCache cache = new PrincipalCache(2, 1000, clock::get, meterRegistry);
+
+        cache.get("a@test.com", loader());
+        cache.get("b@test.com", loader());
+        cache.get("c@test.com", loader());
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void get_ShouldBypassCache_WhenDisabled() {
+        PrincipalCache cache = new PrincipalCache(0, 1000, clock::get, meterRegistry);
+
+        cache.get("user@test.com", loader());
+        cache.get("user@test.com", loader());
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    private Function<String, UserDetails> loader() {
+        return username -> {
+            loads.incrementAndGet();
+            User user = new User(UUID.randomUUID(), "user", username, "secret");
+            user.setRole(UserRole.USER);
+            return new CustomUserDetails(user);
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.ridemate.app.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void get_ShouldVerifyEachTokenOnce() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Function<String, VerifiedToken> verifier = verifier(Instant.now().plusSeconds(60));
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    void get_ShouldReverifyExpiredEntry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Function<String, VerifiedToken> verifier = verifier(Instant.now().minusSeconds(1));
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void get_ShouldStayWithinMaxSize() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Function<String, VerifiedToken> verifier = verifier(Instant.now().plusSeconds(60));
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("token-" + i, verifier);
+        }
+
+        assertEquals(100, verifications.get());
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    void get_ShouldVerifyOnce_WhenManyThreadsPresentTheSameToken() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Function<String, VerifiedToken> verifier = verifier(Instant.now().plusSeconds(60));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<VerifiedToken>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> cache.get("token", verifier)));
+            }
+            for (Future<VerifiedToken> result : results) {
+                assertEquals("token", result.get(5, TimeUnit.SECONDS).username());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    void get_ShouldBypassCache_WhenDisabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+        Function<String, VerifiedToken> verifier = verifier(Instant.now().plusSeconds(60));
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, cache.size());
+    }
+
+    private Function<String, VerifiedToken> verifier(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new VerifiedToken(token, null, "USER", expiresAt);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.ridemate.app.users.service;
+
+import com.ridemate.app.users.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResolvedUserHolderTest {
+
+    private final ResolvedUserHolder holder = new ResolvedUserHolder();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final UUID userId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void resolve_ShouldLoadUserOncePerRequest() {
+        startRequest();
+
+        User first = holder.resolve(userId, loader());
+        User second = holder.resolve(userId, loader());
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void resolve_ShouldLoadAgain_InNewRequest() {
+        startRequest();
+        holder.resolve(userId, loader());
+
+        startRequest();
+        holder.resolve(userId, loader());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void refreshed_ShouldReloadAndReplaceResolvedUser() {
+        startRequest();
+        User first = holder.resolve(userId, loader());
+
+        User refreshed = holder.refreshed(userId, loader());
+
+        assertNotSame(first, refreshed);
+        assertSame(refreshed, holder.resolve(userId, loader()));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void resolve_ShouldLoadEveryTime_OutsideRequest() {
+        holder.resolve(userId, loader());
+        holder.resolve(userId, loader());
+
+        assertEquals(2, loads.get());
+    }
+
+    private void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private Function<UUID, User> loader() {
+        return id -> {
+            loads.incrementAndGet();
+            return new User(id, "user", "user@test.com", "secret");
+        };
+    }
+}
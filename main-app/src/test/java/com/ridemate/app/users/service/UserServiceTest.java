@@ -1,11 +1,13 @@
 package com.ridemate.app.users.service;
 
 import com.ridemate.app.client.audit.AuditClient;
+import com.ridemate.app.client.audit.AuditPublisher;
 import com.ridemate.app.client.audit.dto.CreateAuditEntryDTO;
 import com.ridemate.app.exceptions.AccessDeniedException;
 import com.ridemate.app.exceptions.ConflictException;
 import com.ridemate.app.exceptions.ResourceNotFoundException;
 import com.ridemate.app.security.CustomUserDetails;
+import com.ridemate.app.security.PrincipalCache;
 import com.ridemate.app.users.UserRole;
 import com.ridemate.app.users.dto.requests.UpdateUserRequest;
 import com.ridemate.app.users.entity.User;
@@ -14,7 +16,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -32,6 +38,15 @@ class UserServiceTest {
     @Mock
     private AuditClient auditClient;
 
+    @Mock
+    private AuditPublisher auditPublisher;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Spy
+    private ResolvedUserHolder resolvedUserHolder;
+
     @InjectMocks
     private UserService userService;
 
@@ -78,7 +93,9 @@ class UserServiceTest {
         User result = userService.updateUser(currentUser, dto);
 
         assertNotNull(result);
-        verify(auditClient, times(1)).createEntry(any(CreateAuditEntryDTO.class));
+        verify(auditPublisher, times(1)).publish(any(CreateAuditEntryDTO.class));
+        verify(principalCache).userChanged("old@example.com");
+        verify(principalCache).userChanged("new@example.com");
     }
 
     @Test
@@ -119,8 +136,10 @@ class UserServiceTest {
     void updateUserAsAdmin_ShouldThrowException_WhenNotAdmin() {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User user = new User();
+        user.setId(UUID.randomUUID());
         user.setRole(UserRole.USER);
         when(currentUser.getUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
 
         UUID targetUserId = UUID.randomUUID();
         UpdateUserRequest dto = new UpdateUserRequest();
@@ -132,8 +151,10 @@ class UserServiceTest {
     void updateUserAsAdmin_ShouldThrowException_WhenTargetNotFound() {
         CustomUserDetails currentUser = mock(CustomUserDetails.class);
         User admin = new User();
+        admin.setId(UUID.randomUUID());
         admin.setRole(UserRole.ADMIN);
         when(currentUser.getUser()).thenReturn(admin);
+        when(userRepository.findById(admin.getId())).thenReturn(Optional.of(admin));
 
         UUID targetUserId = UUID.randomUUID();
         UpdateUserRequest dto = new UpdateUserRequest();
@@ -143,4 +164,61 @@ class UserServiceTest {
         assertThrows(ResourceNotFoundException.class,
                 () -> userService.updateUserAsAdmin(currentUser, dto, targetUserId));
     }
+
+    @Test
+    void updateUserRole_ShouldInvalidateCachedPrincipal() {
+        CustomUserDetails currentUser = mock(CustomUserDetails.class);
+        User admin = new User();
+        admin.setId(UUID.randomUUID());
+        admin.setRole(UserRole.ADMIN);
+        when(currentUser.getUser()).thenReturn(admin);
+        when(userRepository.findById(admin.getId())).thenReturn(Optional.of(admin));
+        User target = new User(UUID.randomUUID(), "target", "target@example.com", "secret");
+        target.setRole(UserRole.USER);
+        when(userRepository.findById(target.getId())).thenReturn(Optional.of(target));
+        when(userRepository.save(target)).thenReturn(target);
+
+        User result = userService.updateUserRole(currentUser, target.getId(), UserRole.DRIVER);
+
+        assertEquals(UserRole.DRIVER, result.getRole());
+        verify(principalCache).userChanged("target@example.com");
+    }
+
+    @Test
+    void getAllUsers_ShouldThrowException_WhenAdminDemotedWhilePrincipalStillSaysAdmin() {
+        CustomUserDetails currentUser = mock(CustomUserDetails.class);
+        User principal = new User(UUID.randomUUID(), "admin", "admin@example.com", "secret");
+        principal.setRole(UserRole.ADMIN);
+        when(currentUser.getUser()).thenReturn(principal);
+        User stored = new User(principal.getId(), "admin", "admin@example.com", "secret");
+        stored.setRole(UserRole.USER);
+        when(userRepository.findById(principal.getId())).thenReturn(Optional.of(stored));
+
+        assertThrows(AccessDeniedException.class, () -> userService.getAllUsers(currentUser));
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void getAllUsers_ShouldRereadRole_EvenWhenUserAlreadyResolvedInRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            CustomUserDetails currentUser = mock(CustomUserDetails.class);
+            User principal = new User(UUID.randomUUID(), "admin", "admin@example.com", "secret");
+            principal.setRole(UserRole.ADMIN);
+            when(currentUser.getUser()).thenReturn(principal);
+            User resolved = new User(principal.getId(), "admin", "admin@example.com", "secret");
+            resolved.setRole(UserRole.ADMIN);
+            User demoted = new User(principal.getId(), "admin", "admin@example.com", "secret");
+            demoted.setRole(UserRole.USER);
+            when(userRepository.findById(principal.getId()))
+                    .thenReturn(Optional.of(resolved), Optional.of(demoted));
+
+            assertSame(resolved, userService.getUser(currentUser));
+            assertThrows(AccessDeniedException.class, () -> userService.getAllUsers(currentUser));
+            assertSame(demoted, userService.getUser(currentUser));
+            verify(userRepository, times(2)).findById(principal.getId());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
 }